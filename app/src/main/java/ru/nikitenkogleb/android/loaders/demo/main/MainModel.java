@@ -13,6 +13,9 @@ import android.provider.ContactsContract;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
+import java.util.concurrent.Executor;
+
+import ru.nikitenkogleb.android.loaders.AdaptiveExecutor;
 import ru.nikitenkogleb.android.loaders.OneShotLoader;
 import ru.nikitenkogleb.android.loaders.StableCursorLoader;
 import ru.nikitenkogleb.android.loaders.StableLoader;
@@ -24,6 +27,9 @@ import ru.nikitenkogleb.android.loaders.demo.base.Model;
  */
 public class MainModel extends Model {
 
+    /** The loaders executor. */
+    private static final Executor EXECUTOR = new AdaptiveExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+
     /** Calc sum a bundle argument. */
     private static final String BUNDLE_CALC_SUM_A = "a";
     /** Calc sum b bundle argument. */
@@ -90,7 +96,7 @@ public class MainModel extends Model {
         final int a = args.getInt(BUNDLE_CALC_SUM_A);
         final int b = args.getInt(BUNDLE_CALC_SUM_B);
 
-        return new OneShotLoader<Object>(context, AsyncTask.THREAD_POOL_EXECUTOR) {
+        return new OneShotLoader<Object>(context, EXECUTOR) {
             @Override protected final Long loadInBackground
                     (@NonNull CancellationSignal cancellationSignal) {
                 return calcSum(a, b, cancellationSignal);
@@ -145,7 +151,7 @@ public class MainModel extends Model {
                 args != Bundle.EMPTY ? args.getString("query", "*") : null
         };
 
-        return new StableCursorLoader(context, AsyncTask.THREAD_POOL_EXECUTOR) {
+        return new StableCursorLoader(context, EXECUTOR) {
             /** Background loading. */
             @Nullable @Override
             protected final Cursor loadInBackground(@NonNull CancellationSignal cancellationSignal){
@@ -155,7 +161,7 @@ public class MainModel extends Model {
                             mContentProviderClient.query(uri, projection, selection,
                                     selectionArgs, sort, cancellationSignal) : null;
                 } catch (RemoteException exception) {
-                    return null;
+                    throw new IllegalStateException(exception);
                 }
 
             }
@@ -0,0 +1,162 @@
+/*
+ * 	BundleCodecBenchmark.java
+ * 	benchmark
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package ru.nikitenkogleb.android.loaders;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * The {@link BundleCodec} framing and primitives.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+public class BundleCodecBenchmark {
+
+    /** The deflate threshold, in bytes. */
+    private static final int THRESHOLD = 1024;
+
+    /**
+     * The compressible and random data of size.
+     *
+     * @author Nikitenko Gleb
+     */
+    @State(Scope.Thread)
+    public static class Frames {
+
+        /** The data size, in bytes. */
+        @Param({"64", "1024", "16384", "262144"})
+        public int size;
+
+        /** The compressible data. */
+        byte[] text;
+        /** The random data. */
+        byte[] noise;
+        /** The framed compressible data. */
+        byte[] framedText;
+        /** The framed random data. */
+        byte[] framedNoise;
+
+        /** Generates the data. */
+        @Setup
+        public final void setUp() {
+            final Random random = new Random(size);
+            text = new byte[size];
+            for (int i = 0; i < size; i++) text[i] = (byte) ('a' + random.nextInt(8));
+            noise = new byte[size];
+            random.nextBytes(noise);
+            framedText = BundleCodec.frame(text, THRESHOLD);
+            framedNoise = BundleCodec.frame(noise, THRESHOLD);
+        }
+    }
+
+    /**
+     * The varints and strings.
+     *
+     * @author Nikitenko Gleb
+     */
+    @State(Scope.Thread)
+    public static class Primitives {
+
+        /** The values. */
+        final int[] values = new int[1024];
+        /** The strings. */
+        final String[] strings = new String[256];
+        /** The written varints. */
+        byte[] varints;
+
+        /** Generates the data. */
+        @Setup
+        public final void setUp() {
+            final Random random = new Random(values.length);
+            for (int i = 0; i < values.length; i++)
+                values[i] = random.nextInt() >> random.nextInt(32);
+            final BundleCodec writer = new BundleCodec();
+            for (final int value : values) writer.writeVarint(value);
+            varints = writer.toByteArray();
+            for (int i = 0; i < strings.length; i++) {
+                final char[] chars = new char[8 + random.nextInt(24)];
+                Arrays.fill(chars, (char) ('a' + i % 26));
+                strings[i] = new String(chars);
+            }
+        }
+    }
+
+    /** @return the framed compressible data */
+    @Benchmark
+    public final byte[] frameText(Frames frames) {return BundleCodec.frame(frames.text, THRESHOLD);}
+
+    /** @return the unframed compressible data */
+    @Benchmark
+    public final byte[] unframeText(Frames frames) {return BundleCodec.unframe(frames.framedText);}
+
+    /** @return the framed random data */
+    @Benchmark
+    public final byte[] frameNoise(Frames frames) {
+        return BundleCodec.frame(frames.noise, THRESHOLD);
+    }
+
+    /** @return the unframed random data */
+    @Benchmark
+    public final byte[] unframeNoise(Frames frames) {
+        return BundleCodec.unframe(frames.framedNoise);
+    }
+
+    /** @return the written varints */
+    @Benchmark
+    public final byte[] writeVarints(Primitives primitives) {
+        final BundleCodec codec = new BundleCodec();
+        for (final int value : primitives.values) codec.writeVarint(value);
+        return codec.toByteArray();
+    }
+
+    /** @return the sum of read varints */
+    @Benchmark
+    public final int readVarints(Primitives primitives) {
+        final byte[] data = primitives.varints;
+        final BundleCodec codec = new BundleCodec(data, 0, data.length);
+        int result = 0;
+        for (int i = 0; i < primitives.values.length; i++) result += codec.readVarint();
+        return result;
+    }
+
+    /** @return the written strings */
+    @Benchmark
+    public final byte[] writeStrings(Primitives primitives) {
+        final BundleCodec codec = new BundleCodec();
+        for (final String value : primitives.strings) codec.writeString(value);
+        return codec.toByteArray();
+    }
+}
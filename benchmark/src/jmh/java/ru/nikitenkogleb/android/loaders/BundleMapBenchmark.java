@@ -0,0 +1,86 @@
+/*
+ * 	BundleMapBenchmark.java
+ * 	benchmark
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package ru.nikitenkogleb.android.loaders;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The parcel round-trips of {@link BundleMap}, as the saved loaders state.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+@State(Scope.Thread)
+public class BundleMapBenchmark {
+
+    /** The count of entries. */
+    @Param({"1", "16", "256"})
+    public int entries;
+
+    /** The count of keys per entry. */
+    @Param({"4", "64"})
+    public int keys;
+
+    /** The map. */
+    private BundleMap mMap;
+    /** The parceled map. */
+    private byte[] mParceled;
+
+    /** Builds the map of args. */
+    @Setup
+    public final void setUp() {
+        mMap = new BundleMap();
+        for (int i = 0; i < entries; i++) mMap.put(i, Fixtures.args(i, keys, i % 2 == 0));
+        mParceled = Fixtures.marshall(mMap);
+    }
+
+    /** @return the parceled map */
+    @Benchmark
+    public final byte[] write() {return Fixtures.marshall(mMap);}
+
+    /** @return the unparceled map, with the entries left raw */
+    @Benchmark
+    public final BundleMap read() {return Fixtures.unmarshall(mParceled);}
+
+    /** @param sink the sink of entries unparceled on access */
+    @Benchmark
+    public final void readAll(Blackhole sink) {
+        final BundleMap map = Fixtures.unmarshall(mParceled);
+        for (int i = 0; i < map.size(); i++) sink.consume(map.valueAt(i));
+    }
+
+    /** @return the restored map parceled again, as on the next save */
+    @Benchmark
+    public final byte[] roundTrip() {return Fixtures.marshall(Fixtures.unmarshall(mParceled));}
+}
@@ -0,0 +1,95 @@
+/*
+ * 	DeliverResultBenchmark.java
+ * 	benchmark
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package ru.nikitenkogleb.android.loaders;
+
+import android.os.Looper;
+import android.support.v4.app.LoaderManagerImpl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * The churn of {@link BaseLoader#deliverResult} on a started stable loader: the dispatch
+ * to the manager, the release of replaced results and the delivery by frames.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+@State(Scope.Thread)
+public class DeliverResultBenchmark {
+
+    /** The count of results per operation, coalesced within a frame. */
+    @Param({"1", "8"})
+    public int burst;
+
+    /** Deliver the results by frames. */
+    @Param({"false", "true"})
+    public boolean frames;
+
+    /** The support manager. */
+    private LoaderManagerImpl mSupport;
+    /** The manager. */
+    private Fixtures.Manager mManager;
+    /** The loader. */
+    private Fixtures.Stable mLoader;
+
+    /** Starts the loader and delivers its first result. */
+    @Setup
+    public final void setUp() {
+        mSupport = new LoaderManagerImpl();
+        mSupport.doStart();
+        mManager = new Fixtures.Manager(mSupport, null);
+        mManager.start();
+        mManager.setFrameDelivery(frames);
+        mManager.startLoad(0, Fixtures.args(0, 8, true), true);
+        Looper.getMainLooper().idle();
+        mLoader = (Fixtures.Stable) mSupport.<Object>getLoader(0);
+    }
+
+    /** Destroys the loader. */
+    @TearDown
+    public final void tearDown() {
+        mManager.stop();
+        mSupport.doStop();
+        mManager.close();
+        mSupport.doDestroy();
+    }
+
+    /** @return the count of dispatched results */
+    @Benchmark
+    public final int deliver() {
+        for (int i = 0; i < burst; i++) mLoader.deliverResult(new Object());
+        if (frames) Looper.getMainLooper().idle();
+        return mManager.finished;
+    }
+}
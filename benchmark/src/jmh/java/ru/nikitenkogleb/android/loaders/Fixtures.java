@@ -0,0 +1,207 @@
+/*
+ * 	Fixtures.java
+ * 	benchmark
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package ru.nikitenkogleb.android.loaders;
+
+import android.content.Context;
+import android.os.Bundle;
+import android.os.CancellationSignal;
+import android.os.Parcel;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.v4.content.Loader;
+
+import java.util.concurrent.Executor;
+
+/**
+ * The loaders and state of benchmarks.
+ * <p>
+ * The loads run inline on the main thread, by {@link #DIRECT}, so the benchmarks measure
+ * the bookkeeping around, not the thread hops. The results are dispatched by
+ * {@link android.os.Looper#idle()} of the stub main looper.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+final class Fixtures {
+
+    /** The stable loader arg. */
+    static final String ARG_STABLE = "stable";
+
+    /** The context. */
+    static final Context CONTEXT = new Context();
+
+    /** The inline executor. */
+    static final Executor DIRECT = new Executor() {
+        /** {@inheritDoc} */
+        @Override
+        public final void execute(@NonNull Runnable command) {command.run();}
+    };
+
+    /** Constructs a new {@link Fixtures}. */
+    private Fixtures() {}
+
+    /**
+     * @param id the loader id
+     * @param keys the count of keys
+     * @param stable true for stable loader
+     *
+     * @return the loader args
+     */
+    @NonNull
+    static Bundle args(int id, int keys, boolean stable) {
+        final Bundle result = new Bundle();
+        result.putBoolean(ARG_STABLE, stable);
+        for (int i = 0; i < keys; i++) {
+            final String key = "key" + i;
+            switch (i % 4) {
+                case 0: result.putInt(key, id * keys + i); break;
+                case 1: result.putLong(key, (long) id << 32 | i); break;
+                case 2: result.putString(key, "value-" + id + "-" + i); break;
+                default: result.putIntArray(key, new int[] {id, i, id + i}); break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param value the parcelable
+     * @return the parceled bytes
+     */
+    @NonNull
+    static byte[] marshall(@NonNull BundleMap value) {
+        final Parcel parcel = Parcel.obtain();
+        try {value.writeToParcel(parcel, 0); return parcel.marshall();}
+        finally {parcel.recycle();}
+    }
+
+    /**
+     * @param data the parceled bytes
+     * @return the unparceled map
+     */
+    @NonNull
+    static BundleMap unmarshall(@NonNull byte[] data) {
+        final Parcel parcel = Parcel.obtain();
+        try {
+            parcel.unmarshall(data, 0, data.length);
+            parcel.setDataPosition(0);
+            return BundleMap.CREATOR.createFromParcel(parcel);
+        } finally {parcel.recycle();}
+    }
+
+    /**
+     * @param state the state
+     * @return the parceled state, as saved on process death
+     */
+    @NonNull
+    static byte[] save(@NonNull Bundle state) {
+        final Parcel parcel = Parcel.obtain();
+        try {parcel.writeBundle(state); return parcel.marshall();}
+        finally {parcel.recycle();}
+    }
+
+    /**
+     * @param data the parceled state
+     * @return the restored state
+     */
+    @NonNull
+    static Bundle restore(@NonNull byte[] data) {
+        final Parcel parcel = Parcel.obtain();
+        try {
+            parcel.unmarshall(data, 0, data.length);
+            parcel.setDataPosition(0);
+            return parcel.readBundle(Fixtures.class.getClassLoader());
+        } finally {parcel.recycle();}
+    }
+
+    /**
+     * The loader manager of stable and one-shot benchmark loaders.
+     *
+     * @author Nikitenko Gleb
+     */
+    static final class Manager extends LoaderManager {
+
+        /** The count of finished loads. */
+        int finished = 0;
+
+        /**
+         * Constructs a new {@link Manager}.
+         *
+         * @param loaderManager the support loader manager
+         * @param state the saved state, or null
+         */
+        Manager(@NonNull android.support.v4.app.LoaderManager loaderManager,
+                @Nullable Bundle state) {
+            super(loaderManager, state);
+        }
+
+        /** {@inheritDoc} */
+        @Nullable @Override
+        protected final Loader<Object> onCreateLoader(int id, @NonNull Bundle args) {
+            return args.getBoolean(ARG_STABLE) ? new Stable() : new OneShot();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected final void onLoadFinished(int id, @Nullable Object data) {finished++;}
+    }
+
+    /**
+     * The one-shot benchmark loader.
+     *
+     * @author Nikitenko Gleb
+     */
+    static final class OneShot extends OneShotLoader<Object> {
+
+        /** Constructs a new {@link OneShot}. */
+        OneShot() {super(CONTEXT, DIRECT);}
+
+        /** {@inheritDoc} */
+        @NonNull @Override
+        protected final Object loadInBackground(@NonNull CancellationSignal signal) {
+            return new Object();
+        }
+    }
+
+    /**
+     * The stable benchmark loader.
+     *
+     * @author Nikitenko Gleb
+     */
+    static final class Stable extends StableLoader<Object> {
+
+        /** Constructs a new {@link Stable}. */
+        Stable() {super(CONTEXT, DIRECT);}
+
+        /** {@inheritDoc} */
+        @NonNull @Override
+        protected final Object loadInBackground(@NonNull CancellationSignal signal) {
+            return new Object();
+        }
+    }
+}
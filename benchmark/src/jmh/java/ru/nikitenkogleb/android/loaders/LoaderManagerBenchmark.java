@@ -0,0 +1,104 @@
+/*
+ * 	LoaderManagerBenchmark.java
+ * 	benchmark
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package ru.nikitenkogleb.android.loaders;
+
+import android.os.Bundle;
+import android.os.Looper;
+import android.support.v4.app.LoaderManagerImpl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The construction of {@link LoaderManager} with N saved loaders:
+ * over the retained loaders after rotation, and from the parceled state after process death.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+@State(Scope.Thread)
+public class LoaderManagerBenchmark {
+
+    /** The count of saved loaders. */
+    @Param({"1", "16", "256"})
+    public int loaders;
+
+    /** The support manager with retained loaders. */
+    private LoaderManagerImpl mRetained;
+    /** The saved state. */
+    private Bundle mState;
+    /** The parceled saved state. */
+    private byte[] mParceled;
+
+    /** Loads, saves and retains the loaders, half of them stable. */
+    @Setup
+    public final void setUp() {
+        mRetained = new LoaderManagerImpl();
+        mRetained.doStart();
+        final LoaderManager manager = new Fixtures.Manager(mRetained, null);
+        manager.start();
+        for (int i = 0; i < loaders; i++) manager.startLoad(i, Fixtures.args(i, 8, true), true);
+        Looper.getMainLooper().idle();
+        mState = new Bundle();
+        manager.backup(mState);
+        manager.stop();
+        mParceled = Fixtures.save(mState);
+        mRetained.doRetain();
+        manager.close();
+    }
+
+    /** @return the manager bound to the retained loaders */
+    @Benchmark
+    public final LoaderManager rotation() {return new Fixtures.Manager(mRetained, mState);}
+
+    /** @return the manager restored from the parceled state */
+    @Benchmark
+    public final LoaderManager processDeath() {
+        return new Fixtures.Manager(new LoaderManagerImpl(), Fixtures.restore(mParceled));
+    }
+
+    /** @return the count of loads finished after restore from the parceled state */
+    @Benchmark
+    public final int processDeathAndStart() {
+        final LoaderManagerImpl support = new LoaderManagerImpl();
+        final Fixtures.Manager manager =
+                new Fixtures.Manager(support, Fixtures.restore(mParceled));
+        support.doStart();
+        manager.start();
+        Looper.getMainLooper().idle();
+        manager.stop();
+        support.doStop();
+        manager.close();
+        support.doDestroy();
+        return manager.finished;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * 	StartLoadBenchmark.java
+ * 	benchmark
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package ru.nikitenkogleb.android.loaders;
+
+import android.os.Bundle;
+import android.os.Looper;
+import android.support.v4.app.LoaderManagerImpl;
+import android.util.SparseArray;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * The bookkeeping of {@link LoaderManager#startLoad} up to the dispatch of
+ * {@link LoaderManager#onLoadFinished}, with the loads run inline.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+@State(Scope.Thread)
+public class StartLoadBenchmark {
+
+    /** The count of loads per operation. */
+    @Param({"1", "16"})
+    public int batch;
+
+    /** The support manager. */
+    private LoaderManagerImpl mSupport;
+    /** The manager. */
+    private Fixtures.Manager mManager;
+    /** The one-shot loads. */
+    private SparseArray<Bundle> mOneShots;
+    /** The stable loads. */
+    private SparseArray<Bundle> mStables;
+
+    /** Starts the managers. */
+    @Setup
+    public final void setUp() {
+        mSupport = new LoaderManagerImpl();
+        mSupport.doStart();
+        mManager = new Fixtures.Manager(mSupport, null);
+        mManager.start();
+        mOneShots = new SparseArray<>(batch);
+        mStables = new SparseArray<>(batch);
+        for (int i = 0; i < batch; i++) {
+            mOneShots.put(i, Fixtures.args(i, 8, false));
+            mStables.put(batch + i, Fixtures.args(batch + i, 8, true));
+        }
+    }
+
+    /** Destroys the loaders. */
+    @TearDown
+    public final void tearDown() {
+        mManager.stop();
+        mSupport.doStop();
+        mManager.close();
+        mSupport.doDestroy();
+    }
+
+    /** @return the count of finished loads; the one-shot loaders are destroyed on delivery */
+    @Benchmark
+    public final int oneShot() {
+        for (int i = 0; i < batch; i++)
+            mManager.startLoad(mOneShots.keyAt(i), mOneShots.valueAt(i), false);
+        Looper.getMainLooper().idle();
+        return mManager.finished;
+    }
+
+    /** @return the count of finished loads, started in one batch */
+    @Benchmark
+    public final int oneShotBatch() {
+        mManager.startLoads(mOneShots, false);
+        Looper.getMainLooper().idle();
+        return mManager.finished;
+    }
+
+    /** @return the count of finished loads; the stable loaders are restarted */
+    @Benchmark
+    public final int stableRestart() {
+        for (int i = 0; i < batch; i++)
+            mManager.startLoad(mStables.keyAt(i), mStables.valueAt(i), true);
+        Looper.getMainLooper().idle();
+        return mManager.finished;
+    }
+}
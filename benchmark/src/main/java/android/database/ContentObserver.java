@@ -0,0 +1,63 @@
+/*
+ * 	ContentObserver.java
+ * 	benchmark
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package android.database;
+
+import android.os.Handler;
+
+/**
+ * The plain-JVM stub of {@code android.database.ContentObserver}.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+@SuppressWarnings("unused")
+public abstract class ContentObserver {
+
+    /** The handler of notifications, or null. */
+    private final Handler mHandler;
+
+    /** @param handler the handler of notifications, or null */
+    public ContentObserver(Handler handler) {mHandler = handler;}
+
+    /** @return false by default */
+    public boolean deliverSelfNotifications() {return false;}
+
+    /** Calls on content change. */
+    public void onChange(boolean selfChange) {}
+
+    /** Notifies about the content change, on the handler if any. */
+    public final void dispatchChange(final boolean selfChange) {
+        if (mHandler == null) onChange(selfChange);
+        else mHandler.post(new Runnable() {
+            /** {@inheritDoc} */
+            @Override
+            public final void run() {onChange(selfChange);}
+        });
+    }
+}
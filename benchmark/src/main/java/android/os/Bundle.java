@@ -0,0 +1,232 @@
+/*
+ * 	Bundle.java
+ * 	benchmark
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package android.os;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Set;
+
+/**
+ * The plain-JVM stub of {@code android.os.Bundle}, on the hash map.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+@SuppressWarnings({"WeakerAccess", "unused", "unchecked"})
+public final class Bundle implements Parcelable, Cloneable {
+
+    /** The empty bundle. */
+    public static final Bundle EMPTY = new Bundle(0);
+
+    /** The Parcelable Creator. */
+    public static final Creator<Bundle> CREATOR = new Creator<Bundle>() {
+        /** {@inheritDoc} */
+        @Override
+        public final Bundle createFromParcel(Parcel source) {return source.readBundle();}
+
+        /** {@inheritDoc} */
+        @Override
+        public final Bundle[] newArray(int size) {return new Bundle[size];}
+    };
+
+    /** The mappings. */
+    private final HashMap<String, Object> mMap;
+
+    /** Constructs a new empty {@link Bundle}. */
+    public Bundle() {mMap = new HashMap<>();}
+
+    /** @param capacity the initial capacity */
+    public Bundle(int capacity) {mMap = new HashMap<>(capacity);}
+
+    /** @param bundle the bundle to copy */
+    public Bundle(Bundle bundle) {mMap = new HashMap<>(bundle.mMap);}
+
+    /** {@inheritDoc} */
+    @Override
+    public Object clone() {return new Bundle(this);}
+
+    /** Not used on the plain JVM. */
+    public void setClassLoader(ClassLoader loader) {}
+
+    /** @return the count of mappings */
+    public int size() {return mMap.size();}
+
+    /** @return true if no mappings */
+    public boolean isEmpty() {return mMap.isEmpty();}
+
+    /** Removes all mappings. */
+    public void clear() {mMap.clear();}
+
+    /** @return true if the key is mapped */
+    public boolean containsKey(String key) {return mMap.containsKey(key);}
+
+    /** @return the value of key, or null */
+    public Object get(String key) {return mMap.get(key);}
+
+    /** Removes the mapping of key. */
+    public void remove(String key) {mMap.remove(key);}
+
+    /** Puts all the mappings of bundle. */
+    public void putAll(Bundle bundle) {mMap.putAll(bundle.mMap);}
+
+    /** @return the keys */
+    public Set<String> keySet() {return mMap.keySet();}
+
+    /** Puts the value. */
+    public void putBoolean(String key, boolean value) {mMap.put(key, value);}
+    /** Puts the value. */
+    public void putByte(String key, byte value) {mMap.put(key, value);}
+    /** Puts the value. */
+    public void putChar(String key, char value) {mMap.put(key, value);}
+    /** Puts the value. */
+    public void putShort(String key, short value) {mMap.put(key, value);}
+    /** Puts the value. */
+    public void putInt(String key, int value) {mMap.put(key, value);}
+    /** Puts the value. */
+    public void putLong(String key, long value) {mMap.put(key, value);}
+    /** Puts the value. */
+    public void putFloat(String key, float value) {mMap.put(key, value);}
+    /** Puts the value. */
+    public void putDouble(String key, double value) {mMap.put(key, value);}
+    /** Puts the value. */
+    public void putString(String key, String value) {mMap.put(key, value);}
+    /** Puts the value. */
+    public void putCharSequence(String key, CharSequence value) {mMap.put(key, value);}
+    /** Puts the value. */
+    public void putBundle(String key, Bundle value) {mMap.put(key, value);}
+    /** Puts the value. */
+    public void putParcelable(String key, Parcelable value) {mMap.put(key, value);}
+    /** Puts the value. */
+    public void putSerializable(String key, Serializable value) {mMap.put(key, value);}
+    /** Puts the value. */
+    public void putBooleanArray(String key, boolean[] value) {mMap.put(key, value);}
+    /** Puts the value. */
+    public void putByteArray(String key, byte[] value) {mMap.put(key, value);}
+    /** Puts the value. */
+    public void putIntArray(String key, int[] value) {mMap.put(key, value);}
+    /** Puts the value. */
+    public void putLongArray(String key, long[] value) {mMap.put(key, value);}
+    /** Puts the value. */
+    public void putFloatArray(String key, float[] value) {mMap.put(key, value);}
+    /** Puts the value. */
+    public void putDoubleArray(String key, double[] value) {mMap.put(key, value);}
+    /** Puts the value. */
+    public void putStringArray(String key, String[] value) {mMap.put(key, value);}
+    /** Puts the value. */
+    public void putIntegerArrayList(String key, ArrayList<Integer> value) {mMap.put(key, value);}
+    /** Puts the value. */
+    public void putStringArrayList(String key, ArrayList<String> value) {mMap.put(key, value);}
+
+    /** @return the value, or false */
+    public boolean getBoolean(String key) {return getBoolean(key, false);}
+    /** @return the value, or default */
+    public boolean getBoolean(String key, boolean defaultValue) {
+        final Object result = mMap.get(key);
+        return result instanceof Boolean ? (Boolean) result : defaultValue;
+    }
+
+    /** @return the value, or 0 */
+    public int getInt(String key) {return getInt(key, 0);}
+    /** @return the value, or default */
+    public int getInt(String key, int defaultValue) {
+        final Object result = mMap.get(key);
+        return result instanceof Integer ? (Integer) result : defaultValue;
+    }
+
+    /** @return the value, or 0 */
+    public long getLong(String key) {return getLong(key, 0);}
+    /** @return the value, or default */
+    public long getLong(String key, long defaultValue) {
+        final Object result = mMap.get(key);
+        return result instanceof Long ? (Long) result : defaultValue;
+    }
+
+    /** @return the value, or 0 */
+    public double getDouble(String key) {
+        final Object result = mMap.get(key);
+        return result instanceof Double ? (Double) result : 0;
+    }
+
+    /** @return the value, or null */
+    public String getString(String key) {return cast(key, String.class);}
+    /** @return the value, or default */
+    public String getString(String key, String defaultValue) {
+        final String result = getString(key);
+        return result != null ? result : defaultValue;
+    }
+
+    /** @return the value, or null */
+    public Bundle getBundle(String key) {return cast(key, Bundle.class);}
+    /** @return the value, or null */
+    public <T extends Parcelable> T getParcelable(String key) {
+        return (T) cast(key, Parcelable.class);
+    }
+    /** @return the value, or null */
+    public Serializable getSerializable(String key) {return cast(key, Serializable.class);}
+    /** @return the value, or null */
+    public byte[] getByteArray(String key) {return cast(key, byte[].class);}
+    /** @return the value, or null */
+    public int[] getIntArray(String key) {return cast(key, int[].class);}
+    /** @return the value, or null */
+    public long[] getLongArray(String key) {return cast(key, long[].class);}
+    /** @return the value, or null */
+    public String[] getStringArray(String key) {return cast(key, String[].class);}
+    /** @return the value, or null */
+    public ArrayList<Integer> getIntegerArrayList(String key) {
+        return (ArrayList<Integer>) cast(key, ArrayList.class);
+    }
+    /** @return the value, or null */
+    public ArrayList<String> getStringArrayList(String key) {
+        return (ArrayList<String>) cast(key, ArrayList.class);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int describeContents() {return 0;}
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeToParcel(Parcel dest, int flags) {dest.writeBundle(this);}
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {return "Bundle[" + mMap + "]";}
+
+    /**
+     * @param key the key
+     * @param type the value type
+     *
+     * @return the value of type, or null
+     */
+    private <T> T cast(String key, Class<T> type) {
+        final Object result = mMap.get(key);
+        return type.isInstance(result) ? type.cast(result) : null;
+    }
+}
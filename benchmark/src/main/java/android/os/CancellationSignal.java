@@ -0,0 +1,85 @@
+/*
+ * 	CancellationSignal.java
+ * 	benchmark
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package android.os;
+
+/**
+ * The plain-JVM stub of {@code android.os.CancellationSignal}.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+@SuppressWarnings("unused")
+public final class CancellationSignal {
+
+    /** The cancel listener. */
+    private OnCancelListener mListener = null;
+    /** The operation is canceled. */
+    private boolean mCanceled = false;
+
+    /** @return true if the operation is canceled */
+    public boolean isCanceled() {
+        synchronized (this) {return mCanceled;}
+    }
+
+    /** Throws {@link OperationCanceledException} if the operation is canceled. */
+    public void throwIfCanceled() {
+        if (isCanceled()) throw new OperationCanceledException();
+    }
+
+    /** Cancels the operation and notifies the listener. */
+    public void cancel() {
+        final OnCancelListener listener;
+        synchronized (this) {
+            if (mCanceled) return;
+            mCanceled = true;
+            listener = mListener;
+        }
+        if (listener != null) listener.onCancel();
+    }
+
+    /** Sets the cancel listener, notified at once if canceled already. */
+    public void setOnCancelListener(OnCancelListener listener) {
+        synchronized (this) {
+            if (mListener == listener) return;
+            mListener = listener;
+            if (!mCanceled || listener == null) return;
+        }
+        listener.onCancel();
+    }
+
+    /**
+     * The cancel listener.
+     *
+     * @author Nikitenko Gleb
+     */
+    public interface OnCancelListener {
+        /** Calls on cancel. */
+        void onCancel();
+    }
+}
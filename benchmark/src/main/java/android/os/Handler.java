@@ -0,0 +1,118 @@
+/*
+ * 	Handler.java
+ * 	benchmark
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package android.os;
+
+/**
+ * The plain-JVM stub of {@code android.os.Handler}, on the stub {@link Looper}.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public class Handler {
+
+    /**
+     * The message callback.
+     *
+     * @author Nikitenko Gleb
+     */
+    public interface Callback {
+        /** @return true if the message is handled */
+        boolean handleMessage(Message msg);
+    }
+
+    /** The looper. */
+    private final Looper mLooper;
+    /** The message callback, or null. */
+    private final Callback mCallback;
+
+    /** Constructs a new {@link Handler} on the main looper. */
+    public Handler() {this(Looper.getMainLooper(), null);}
+
+    /** @param looper the looper */
+    public Handler(Looper looper) {this(looper, null);}
+
+    /**
+     * @param looper the looper
+     * @param callback the message callback, or null
+     */
+    public Handler(Looper looper, Callback callback) {mLooper = looper; mCallback = callback;}
+
+    /** Handles the message without callback. */
+    public void handleMessage(Message msg) {}
+
+    /** Dispatches the message. */
+    public void dispatchMessage(Message msg) {
+        if (msg.callback != null) msg.callback.run();
+        else if (mCallback == null || !mCallback.handleMessage(msg)) handleMessage(msg);
+    }
+
+    /** @return true, the message is always enqueued */
+    public final boolean post(Runnable r) {return postAtTime(r, SystemClock.uptimeMillis());}
+
+    /** @return true, the message is always enqueued */
+    public final boolean postDelayed(Runnable r, long delayMillis) {
+        return postAtTime(r, SystemClock.uptimeMillis() + Math.max(0, delayMillis));
+    }
+
+    /** @return true, the message is always enqueued */
+    public final boolean postAtTime(Runnable r, long uptimeMillis) {
+        final Message message = new Message();
+        message.callback = r;
+        return sendMessageAtTime(message, uptimeMillis);
+    }
+
+    /** Removes the pending posts of runnable. */
+    public final void removeCallbacks(Runnable r) {mLooper.remove(this, r, 0);}
+
+    /** @return true, the message is always enqueued */
+    public final boolean sendEmptyMessage(int what) {
+        final Message message = new Message();
+        message.what = what;
+        return sendMessageAtTime(message, SystemClock.uptimeMillis());
+    }
+
+    /** @return true, the message is always enqueued */
+    public final boolean sendMessage(Message msg) {
+        return sendMessageAtTime(msg, SystemClock.uptimeMillis());
+    }
+
+    /** @return true, the message is always enqueued */
+    public boolean sendMessageAtTime(Message msg, long uptimeMillis) {
+        msg.target = this; msg.when = uptimeMillis;
+        mLooper.enqueue(msg);
+        return true;
+    }
+
+    /** Removes the pending messages with code. */
+    public final void removeMessages(int what) {mLooper.remove(this, null, what);}
+
+    /** @return the looper */
+    public final Looper getLooper() {return mLooper;}
+}
@@ -0,0 +1,125 @@
+/*
+ * 	Looper.java
+ * 	benchmark
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package android.os;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.PriorityQueue;
+
+/**
+ * The plain-JVM stub of {@code android.os.Looper}, with the main looper only.
+ * <p>
+ * The messages are not dispatched by an own thread: the benchmark drives the main looper
+ * by {@link #idle()} on its thread, like the paused looper of Robolectric.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public final class Looper {
+
+    /** The main looper. */
+    private static final Looper MAIN = new Looper();
+
+    /** The messages by delivery time. */
+    private final PriorityQueue<Message> mQueue = new PriorityQueue<>(64,
+            new Comparator<Message>() {
+                /** {@inheritDoc} */
+                @Override
+                public final int compare(Message first, Message second) {
+                    if (first.when != second.when) return first.when < second.when ? -1 : 1;
+                    return first.sequence < second.sequence ? -1 :
+                            first.sequence == second.sequence ? 0 : 1;
+                }
+            });
+
+    /** The enqueue counter. */
+    private long mSequence = 0;
+    /** The thread of last dispatch. */
+    private volatile Thread mThread = null;
+
+    /** Constructs a new {@link Looper}. */
+    private Looper() {}
+
+    /** @return the main looper */
+    public static Looper getMainLooper() {return MAIN;}
+
+    /** @return the main looper on its thread, otherwise null */
+    public static Looper myLooper() {return MAIN.mThread == Thread.currentThread() ? MAIN : null;}
+
+    /** @return the thread of last dispatch */
+    public Thread getThread() {return mThread;}
+
+    /**
+     * Dispatches the messages due by now on the calling thread, including the ones
+     * posted meanwhile. The delayed messages stay queued.
+     *
+     * @return the count of dispatched messages
+     */
+    public int idle() {
+        mThread = Thread.currentThread();
+        int result = 0;
+        for (Message message; (message = next(SystemClock.uptimeMillis())) != null; result++)
+            message.target.dispatchMessage(message);
+        return result;
+    }
+
+    /** @return the count of queued messages */
+    public synchronized int size() {return mQueue.size();}
+
+    /**
+     * @param now the current uptime
+     * @return the message due by now, or null
+     */
+    private synchronized Message next(long now) {
+        final Message result = mQueue.peek();
+        return result != null && result.when <= now ? mQueue.poll() : null;
+    }
+
+    /** @param message the message to enqueue */
+    synchronized void enqueue(Message message) {
+        message.sequence = mSequence++;
+        mQueue.add(message);
+    }
+
+    /**
+     * @param target the target handler
+     * @param callback the callback, or null for any
+     * @param what the message code, if callback is null
+     */
+    synchronized void remove(Handler target, Runnable callback, int what) {
+        for (final Iterator<Message> iterator = mQueue.iterator(); iterator.hasNext();) {
+            final Message message = iterator.next();
+            if (message.target != target) continue;
+            if (callback != null ? message.callback == callback :
+                    message.callback == null && message.what == what) iterator.remove();
+        }
+    }
+}
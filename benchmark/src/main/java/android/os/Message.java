@@ -0,0 +1,62 @@
+/*
+ * 	Message.java
+ * 	benchmark
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package android.os;
+
+/**
+ * The plain-JVM stub of {@code android.os.Message}.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public final class Message {
+
+    /** The message code. */
+    public int what;
+    /** The arbitrary object. */
+    public Object obj;
+
+    /** The target handler. */
+    Handler target = null;
+    /** The callback to run, or null. */
+    Runnable callback = null;
+    /** The uptime to deliver at, in milliseconds. */
+    long when = 0;
+    /** The order of enqueue, for the same delivery time. */
+    long sequence = 0;
+
+    /** @return the target handler */
+    public final Handler getTarget() {return target;}
+
+    /** @return the callback to run, or null */
+    public final Runnable getCallback() {return callback;}
+
+    /** @return the uptime to deliver at, in milliseconds */
+    public final long getWhen() {return when;}
+}
@@ -0,0 +1,417 @@
+/*
+ * 	Parcel.java
+ * 	benchmark
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package android.os;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The plain-JVM stub of {@code android.os.Parcel}: the little-endian byte buffer
+ * with 4-bytes alignment and UTF-16 strings, as the native one lays out.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+@SuppressWarnings({"WeakerAccess", "unused", "unchecked"})
+public final class Parcel {
+
+    /** The value types. */
+    private static final int
+            VAL_NULL = -1, VAL_STRING = 0, VAL_INTEGER = 1, VAL_BUNDLE = 3,
+            VAL_PARCELABLE = 4, VAL_SHORT = 5, VAL_LONG = 6, VAL_FLOAT = 7, VAL_DOUBLE = 8,
+            VAL_BOOLEAN = 9, VAL_LIST = 11, VAL_BYTEARRAY = 13, VAL_STRINGARRAY = 14,
+            VAL_INTARRAY = 18, VAL_LONGARRAY = 19, VAL_BYTE = 20, VAL_SERIALIZABLE = 21,
+            VAL_BOOLEANARRAY = 23, VAL_CHAR = 24, VAL_FLOATARRAY = 25, VAL_DOUBLEARRAY = 26;
+
+    /** The pool size. */
+    private static final int POOL_SIZE = 6;
+    /** The recycled parcels. */
+    private static final Parcel[] POOL = new Parcel[POOL_SIZE];
+
+    /** The data. */
+    private byte[] mData = new byte[64];
+    /** The data size. */
+    private int mSize = 0;
+    /** The data position. */
+    private int mPosition = 0;
+
+    /** Constructs a new {@link Parcel}. */
+    private Parcel() {}
+
+    /** @return the recycled or new parcel */
+    public static Parcel obtain() {
+        synchronized (POOL) {
+            for (int i = 0; i < POOL_SIZE; i++) {
+                final Parcel result = POOL[i];
+                if (result != null) {POOL[i] = null; return result;}
+            }
+        }
+        return new Parcel();
+    }
+
+    /** Returns the parcel to the pool. */
+    public void recycle() {
+        mSize = mPosition = 0;
+        synchronized (POOL) {
+            for (int i = 0; i < POOL_SIZE; i++) if (POOL[i] == null) {POOL[i] = this; return;}
+        }
+    }
+
+    /** @return the raw bytes */
+    public byte[] marshall() {return Arrays.copyOf(mData, mSize);}
+
+    /** Replaces the data by raw bytes. */
+    public void unmarshall(byte[] data, int offset, int length) {
+        mData = Arrays.copyOfRange(data, offset, offset + Math.max(length, 0) + 64);
+        mSize = length; mPosition = 0;
+    }
+
+    /** @return the data size */
+    public int dataSize() {return mSize;}
+
+    /** @return the data position */
+    public int dataPosition() {return mPosition;}
+
+    /** @param position the data position */
+    public void setDataPosition(int position) {mPosition = position;}
+
+    /** @return false, file descriptors are not supported */
+    public boolean hasFileDescriptors() {return false;}
+
+    /** Writes the value. */
+    public void writeInt(int value) {
+        ensure(4);
+        mData[mPosition] = (byte) value; mData[mPosition + 1] = (byte) (value >> 8);
+        mData[mPosition + 2] = (byte) (value >> 16); mData[mPosition + 3] = (byte) (value >> 24);
+        advance(4);
+    }
+
+    /** @return the value, or 0 at the end */
+    public int readInt() {
+        if (mPosition + 4 > mSize) return 0;
+        final int result = mData[mPosition] & 0xFF | (mData[mPosition + 1] & 0xFF) << 8 |
+                (mData[mPosition + 2] & 0xFF) << 16 | (mData[mPosition + 3] & 0xFF) << 24;
+        mPosition += 4;
+        return result;
+    }
+
+    /** Writes the value. */
+    public void writeLong(long value) {writeInt((int) value); writeInt((int) (value >>> 32));}
+
+    /** @return the value */
+    public long readLong() {return readInt() & 0xFFFFFFFFL | (long) readInt() << 32;}
+
+    /** Writes the value. */
+    public void writeFloat(float value) {writeInt(Float.floatToRawIntBits(value));}
+
+    /** @return the value */
+    public float readFloat() {return Float.intBitsToFloat(readInt());}
+
+    /** Writes the value. */
+    public void writeDouble(double value) {writeLong(Double.doubleToRawLongBits(value));}
+
+    /** @return the value */
+    public double readDouble() {return Double.longBitsToDouble(readLong());}
+
+    /** Writes the value. */
+    public void writeString(String value) {
+        if (value == null) {writeInt(-1); return;}
+        final int length = value.length();
+        writeInt(length);
+        ensure(length * 2 + 2);
+        for (int i = 0; i < length; i++) {
+            final char item = value.charAt(i);
+            mData[mPosition + i * 2] = (byte) item;
+            mData[mPosition + i * 2 + 1] = (byte) (item >> 8);
+        }
+        mData[mPosition + length * 2] = 0; mData[mPosition + length * 2 + 1] = 0;
+        advance(length * 2 + 2);
+    }
+
+    /** @return the value */
+    public String readString() {
+        final int length = readInt();
+        if (length < 0 || mPosition + length * 2 > mSize) return null;
+        final char[] chars = new char[length];
+        for (int i = 0; i < length; i++)
+            chars[i] = (char) (mData[mPosition + i * 2] & 0xFF | mData[mPosition + i * 2 + 1] << 8);
+        mPosition += align(length * 2 + 2);
+        return new String(chars);
+    }
+
+    /** Writes the value. */
+    public void writeByteArray(byte[] value) {
+        writeByteArray(value, 0, value != null ? value.length : 0);
+    }
+
+    /** Writes the range of value. */
+    public void writeByteArray(byte[] value, int offset, int length) {
+        if (value == null) {writeInt(-1); return;}
+        writeInt(length);
+        ensure(length);
+        System.arraycopy(value, offset, mData, mPosition, length);
+        advance(length);
+    }
+
+    /** @return the value */
+    public byte[] createByteArray() {
+        final int length = readInt();
+        if (length < 0 || mPosition + length > mSize) return null;
+        final byte[] result = Arrays.copyOfRange(mData, mPosition, mPosition + length);
+        mPosition += align(length);
+        return result;
+    }
+
+    /** Writes the value. */
+    public void writeBundle(Bundle value) {
+        if (value == null) {writeInt(-1); return;}
+        writeInt(value.size());
+        for (final String key : value.keySet()) {
+            writeString(key);
+            writeValue(value.get(key));
+        }
+    }
+
+    /** @return the value */
+    public Bundle readBundle() {return readBundle(null);}
+
+    /** @return the value */
+    public Bundle readBundle(ClassLoader loader) {
+        final int size = readInt();
+        if (size < 0) return null;
+        final Bundle result = new Bundle(size);
+        for (int i = 0; i < size; i++) put(result, readString(), readValue(loader));
+        return result;
+    }
+
+    /** Writes the value with its class. */
+    public void writeParcelable(Parcelable value, int flags) {
+        if (value == null) {writeString(null); return;}
+        writeString(value.getClass().getName());
+        value.writeToParcel(this, flags);
+    }
+
+    /** @return the value */
+    public <T extends Parcelable> T readParcelable(ClassLoader loader) {
+        final String name = readString();
+        if (name == null) return null;
+        try {
+            final Class<?> type = Class.forName(name, true,
+                    loader != null ? loader : Parcel.class.getClassLoader());
+            final Parcelable.Creator<?> creator =
+                    (Parcelable.Creator<?>) type.getField("CREATOR").get(null);
+            return (T) creator.createFromParcel(this);
+        } catch (ReflectiveOperationException exception) {
+            throw new RuntimeException("Parcelable " + name, exception);
+        }
+    }
+
+    /** Writes the value with its type. */
+    public void writeValue(Object value) {
+        if (value == null) writeInt(VAL_NULL);
+        else if (value instanceof String) {writeInt(VAL_STRING); writeString((String) value);}
+        else if (value instanceof Integer) {writeInt(VAL_INTEGER); writeInt((Integer) value);}
+        else if (value instanceof Bundle) {writeInt(VAL_BUNDLE); writeBundle((Bundle) value);}
+        else if (value instanceof Parcelable)
+        {writeInt(VAL_PARCELABLE); writeParcelable((Parcelable) value, 0);}
+        else if (value instanceof Short) {writeInt(VAL_SHORT); writeInt((Short) value);}
+        else if (value instanceof Long) {writeInt(VAL_LONG); writeLong((Long) value);}
+        else if (value instanceof Float) {writeInt(VAL_FLOAT); writeFloat((Float) value);}
+        else if (value instanceof Double) {writeInt(VAL_DOUBLE); writeDouble((Double) value);}
+        else if (value instanceof Boolean)
+        {writeInt(VAL_BOOLEAN); writeInt((Boolean) value ? 1 : 0);}
+        else if (value instanceof Byte) {writeInt(VAL_BYTE); writeInt((Byte) value);}
+        else if (value instanceof Character) {writeInt(VAL_CHAR); writeInt((Character) value);}
+        else if (value instanceof byte[]) {writeInt(VAL_BYTEARRAY); writeByteArray((byte[]) value);}
+        else if (value instanceof String[]) {
+            final String[] items = (String[]) value;
+            writeInt(VAL_STRINGARRAY); writeInt(items.length);
+            for (final String item : items) writeString(item);
+        } else if (value instanceof int[]) {
+            final int[] items = (int[]) value;
+            writeInt(VAL_INTARRAY); writeInt(items.length);
+            for (final int item : items) writeInt(item);
+        } else if (value instanceof long[]) {
+            final long[] items = (long[]) value;
+            writeInt(VAL_LONGARRAY); writeInt(items.length);
+            for (final long item : items) writeLong(item);
+        } else if (value instanceof boolean[]) {
+            final boolean[] items = (boolean[]) value;
+            writeInt(VAL_BOOLEANARRAY); writeInt(items.length);
+            for (final boolean item : items) writeInt(item ? 1 : 0);
+        } else if (value instanceof float[]) {
+            final float[] items = (float[]) value;
+            writeInt(VAL_FLOATARRAY); writeInt(items.length);
+            for (final float item : items) writeFloat(item);
+        } else if (value instanceof double[]) {
+            final double[] items = (double[]) value;
+            writeInt(VAL_DOUBLEARRAY); writeInt(items.length);
+            for (final double item : items) writeDouble(item);
+        } else if (value instanceof List) {
+            final List<?> items = (List<?>) value;
+            writeInt(VAL_LIST); writeInt(items.size());
+            for (final Object item : items) writeValue(item);
+        } else if (value instanceof Serializable) {
+            writeInt(VAL_SERIALIZABLE);
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try {
+                final ObjectOutputStream stream = new ObjectOutputStream(bytes);
+                stream.writeObject(value); stream.close();
+            } catch (IOException exception) {
+                throw new RuntimeException("Serializable " + value.getClass(), exception);
+            }
+            writeByteArray(bytes.toByteArray());
+        } else {
+            throw new RuntimeException("Parcel: unable to marshal value " + value);
+        }
+    }
+
+    /** @return the value */
+    public Object readValue(ClassLoader loader) {
+        final int type = readInt();
+        switch (type) {
+            case VAL_NULL: return null;
+            case VAL_STRING: return readString();
+            case VAL_INTEGER: return readInt();
+            case VAL_BUNDLE: return readBundle(loader);
+            case VAL_PARCELABLE: return readParcelable(loader);
+            case VAL_SHORT: return (short) readInt();
+            case VAL_LONG: return readLong();
+            case VAL_FLOAT: return readFloat();
+            case VAL_DOUBLE: return readDouble();
+            case VAL_BOOLEAN: return readInt() != 0;
+            case VAL_BYTE: return (byte) readInt();
+            case VAL_CHAR: return (char) readInt();
+            case VAL_BYTEARRAY: return createByteArray();
+            case VAL_STRINGARRAY: {
+                final String[] result = new String[readInt()];
+                for (int i = 0; i < result.length; i++) result[i] = readString();
+                return result;
+            }
+            case VAL_INTARRAY: {
+                final int[] result = new int[readInt()];
+                for (int i = 0; i < result.length; i++) result[i] = readInt();
+                return result;
+            }
+            case VAL_LONGARRAY: {
+                final long[] result = new long[readInt()];
+                for (int i = 0; i < result.length; i++) result[i] = readLong();
+                return result;
+            }
+            case VAL_BOOLEANARRAY: {
+                final boolean[] result = new boolean[readInt()];
+                for (int i = 0; i < result.length; i++) result[i] = readInt() != 0;
+                return result;
+            }
+            case VAL_FLOATARRAY: {
+                final float[] result = new float[readInt()];
+                for (int i = 0; i < result.length; i++) result[i] = readFloat();
+                return result;
+            }
+            case VAL_DOUBLEARRAY: {
+                final double[] result = new double[readInt()];
+                for (int i = 0; i < result.length; i++) result[i] = readDouble();
+                return result;
+            }
+            case VAL_LIST: {
+                final int size = readInt();
+                final ArrayList<Object> result = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) result.add(readValue(loader));
+                return result;
+            }
+            case VAL_SERIALIZABLE: {
+                final byte[] bytes = createByteArray();
+                try {
+                    return new ObjectInputStream(new ByteArrayInputStream(bytes)).readObject();
+                } catch (IOException | ClassNotFoundException exception) {
+                    throw new RuntimeException("Serializable", exception);
+                }
+            }
+            default: throw new RuntimeException("Parcel: unmarshalling unknown type " + type);
+        }
+    }
+
+    /**
+     * @param bundle the bundle
+     * @param key the key
+     * @param value the unparceled value
+     */
+    private static void put(Bundle bundle, String key, Object value) {
+        if (value instanceof Integer) bundle.putInt(key, (Integer) value);
+        else if (value instanceof Long) bundle.putLong(key, (Long) value);
+        else if (value instanceof Boolean) bundle.putBoolean(key, (Boolean) value);
+        else if (value instanceof Short) bundle.putShort(key, (Short) value);
+        else if (value instanceof Byte) bundle.putByte(key, (Byte) value);
+        else if (value instanceof Character) bundle.putChar(key, (Character) value);
+        else if (value instanceof Float) bundle.putFloat(key, (Float) value);
+        else if (value instanceof Double) bundle.putDouble(key, (Double) value);
+        else if (value instanceof Bundle) bundle.putBundle(key, (Bundle) value);
+        else if (value instanceof Parcelable) bundle.putParcelable(key, (Parcelable) value);
+        else if (value instanceof byte[]) bundle.putByteArray(key, (byte[]) value);
+        else if (value instanceof int[]) bundle.putIntArray(key, (int[]) value);
+        else if (value instanceof long[]) bundle.putLongArray(key, (long[]) value);
+        else if (value instanceof boolean[]) bundle.putBooleanArray(key, (boolean[]) value);
+        else if (value instanceof float[]) bundle.putFloatArray(key, (float[]) value);
+        else if (value instanceof double[]) bundle.putDoubleArray(key, (double[]) value);
+        else if (value instanceof String[]) bundle.putStringArray(key, (String[]) value);
+        else if (value instanceof ArrayList)
+            bundle.putStringArrayList(key, (ArrayList<String>) value);
+        else if (value instanceof String || value == null)
+            bundle.putString(key, (String) value);
+        else bundle.putSerializable(key, (Serializable) value);
+    }
+
+    /** @param count the bytes to write */
+    private void ensure(int count) {
+        final int required = mPosition + align(count);
+        if (required > mData.length)
+            mData = Arrays.copyOf(mData, Math.max(required, mData.length * 2));
+    }
+
+    /** @param count the written bytes */
+    private void advance(int count) {
+        final int end = mPosition + count, aligned = mPosition + align(count);
+        Arrays.fill(mData, end, aligned, (byte) 0);
+        mPosition = aligned;
+        if (mPosition > mSize) mSize = mPosition;
+    }
+
+    /**
+     * @param count the bytes
+     * @return the count aligned by 4 bytes
+     */
+    private static int align(int count) {return (count + 3) & ~3;}
+}
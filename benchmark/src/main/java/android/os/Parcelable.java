@@ -0,0 +1,60 @@
+/*
+ * 	Parcelable.java
+ * 	benchmark
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package android.os;
+
+/**
+ * The plain-JVM stub of {@code android.os.Parcelable}.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+@SuppressWarnings("unused")
+public interface Parcelable {
+
+    /** The object is written as a return value. */
+    int PARCELABLE_WRITE_RETURN_VALUE = 0x0001;
+
+    /** @return the kinds of special objects */
+    int describeContents();
+
+    /** Flattens this object to the parcel. */
+    void writeToParcel(Parcel dest, int flags);
+
+    /**
+     * The factory of parcelables.
+     *
+     * @author Nikitenko Gleb
+     */
+    interface Creator<T> {
+        /** @return the new instance from parcel */
+        T createFromParcel(Parcel source);
+        /** @return the new array of parcelables */
+        T[] newArray(int size);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * 	LoaderManager.java
+ * 	benchmark
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package android.support.v4.app;
+
+import android.os.Bundle;
+import android.support.v4.content.Loader;
+
+/**
+ * The plain-JVM stub of support {@code LoaderManager}.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+@SuppressWarnings("unused")
+public abstract class LoaderManager {
+
+    /**
+     * The loader callbacks.
+     *
+     * @author Nikitenko Gleb
+     */
+    public interface LoaderCallbacks<D> {
+        /** @return the new loader */
+        Loader<D> onCreateLoader(int id, Bundle args);
+        /** Calls on finished load. */
+        void onLoadFinished(Loader<D> loader, D data);
+        /** Calls on reset of loader. */
+        void onLoaderReset(Loader<D> loader);
+    }
+
+    /** @return the existing or new loader */
+    public abstract <D> Loader<D> initLoader(int id, Bundle args, LoaderCallbacks<D> callback);
+
+    /** @return the new loader */
+    public abstract <D> Loader<D> restartLoader(int id, Bundle args, LoaderCallbacks<D> callback);
+
+    /** Destroys the loader. */
+    public abstract void destroyLoader(int id);
+
+    /** @return the loader, or null */
+    public abstract <D> Loader<D> getLoader(int id);
+}
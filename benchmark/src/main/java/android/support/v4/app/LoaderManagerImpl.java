@@ -0,0 +1,377 @@
+/*
+ * 	LoaderManagerImpl.java
+ * 	benchmark
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package android.support.v4.app;
+
+import android.os.Bundle;
+import android.support.v4.content.Loader;
+import android.util.SparseArray;
+
+/**
+ * The plain-JVM stub of support {@code LoaderManagerImpl}, with the same bookkeeping of
+ * active, inactive and pending loaders. The benchmark drives its lifecycle in place of
+ * the hosting activity: start, stop, retain over configuration change and destroy.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+@SuppressWarnings({"WeakerAccess", "unused", "unchecked"})
+public final class LoaderManagerImpl extends LoaderManager {
+
+    /** The active loaders. */
+    private final SparseArray<LoaderInfo> mLoaders = new SparseArray<>();
+    /** The loaders replaced by restart, until the new ones finish. */
+    private final SparseArray<LoaderInfo> mInactiveLoaders = new SparseArray<>();
+
+    /** The manager is started. */
+    private boolean mStarted = false;
+    /** The manager is retained over configuration change. */
+    private boolean mRetaining = false;
+    /** The loader is being created. */
+    private boolean mCreatingLoader = false;
+
+    /** {@inheritDoc} */
+    @Override
+    public final <D> Loader<D> initLoader(int id, Bundle args, LoaderCallbacks<D> callback) {
+        checkCreating();
+        LoaderInfo info = mLoaders.get(id);
+        if (info == null) {
+            info = createAndInstallLoader(id, args, (LoaderCallbacks<Object>) callback);
+        } else {
+            info.callbacks = (LoaderCallbacks<Object>) callback;
+        }
+        if (info.haveData && mStarted) info.callOnLoadFinished(info.loader, info.data);
+        return (Loader<D>) info.loader;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final <D> Loader<D> restartLoader(int id, Bundle args, LoaderCallbacks<D> callback) {
+        checkCreating();
+        final LoaderInfo info = mLoaders.get(id);
+        if (info != null) {
+            final LoaderInfo inactive = mInactiveLoaders.get(id);
+            if (inactive == null) {
+                info.loader.abandon();
+                mInactiveLoaders.put(id, info);
+            } else if (info.haveData) {
+                inactive.deliveredData = false;
+                inactive.destroy();
+                info.loader.abandon();
+                mInactiveLoaders.put(id, info);
+            } else if (!info.started) {
+                mLoaders.put(id, null);
+                info.destroy();
+            } else {
+                info.cancel();
+                if (info.pendingLoader != null) info.pendingLoader.destroy();
+                info.pendingLoader = createLoader(id, args, (LoaderCallbacks<Object>) callback);
+                return (Loader<D>) info.pendingLoader.loader;
+            }
+        }
+        return (Loader<D>) createAndInstallLoader(id, args,
+                (LoaderCallbacks<Object>) callback).loader;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void destroyLoader(int id) {
+        checkCreating();
+        int index = mLoaders.indexOfKey(id);
+        if (index >= 0) {
+            final LoaderInfo info = mLoaders.valueAt(index);
+            mLoaders.removeAt(index);
+            if (info != null) info.destroy();
+        }
+        index = mInactiveLoaders.indexOfKey(id);
+        if (index >= 0) {
+            final LoaderInfo info = mInactiveLoaders.valueAt(index);
+            mInactiveLoaders.removeAt(index);
+            info.destroy();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final <D> Loader<D> getLoader(int id) {
+        checkCreating();
+        final LoaderInfo info = mLoaders.get(id);
+        if (info == null) return null;
+        return (Loader<D>) (info.pendingLoader != null ? info.pendingLoader.loader : info.loader);
+    }
+
+    /** Starts the loaders, as the activity on start. */
+    public final void doStart() {
+        mStarted = true;
+        for (int i = mLoaders.size() - 1; i >= 0; i--) start(mLoaders.valueAt(i));
+    }
+
+    /** Stops the loaders, as the activity on stop. */
+    public final void doStop() {
+        for (int i = mLoaders.size() - 1; i >= 0; i--) {
+            final LoaderInfo info = mLoaders.valueAt(i);
+            if (info != null) info.stop();
+        }
+        mStarted = false;
+    }
+
+    /** Retains the loaders over configuration change, as the activity on stop. */
+    public final void doRetain() {
+        mRetaining = true; mStarted = false;
+        for (int i = mLoaders.size() - 1; i >= 0; i--) {
+            final LoaderInfo info = mLoaders.valueAt(i);
+            if (info != null) info.retain();
+        }
+    }
+
+    /** Finishes the retain, as the new activity on start. */
+    public final void finishRetain() {
+        if (!mRetaining) return;
+        mRetaining = false;
+        for (int i = mLoaders.size() - 1; i >= 0; i--) {
+            final LoaderInfo info = mLoaders.valueAt(i);
+            if (info != null) info.finishRetain();
+        }
+    }
+
+    /** Destroys the loaders, as the finishing activity on destroy. */
+    public final void doDestroy() {
+        if (mRetaining) return;
+        for (int i = mLoaders.size() - 1; i >= 0; i--) {
+            final LoaderInfo info = mLoaders.valueAt(i);
+            if (info != null) info.destroy();
+        }
+        mLoaders.clear();
+        for (int i = mInactiveLoaders.size() - 1; i >= 0; i--)
+            mInactiveLoaders.valueAt(i).destroy();
+        mInactiveLoaders.clear();
+    }
+
+    /** @param info the loader info to start, or null */
+    private static void start(LoaderInfo info) {if (info != null) info.start();}
+
+    /** Throws if called from {@link LoaderCallbacks#onCreateLoader}. */
+    private void checkCreating() {
+        if (mCreatingLoader) throw new IllegalStateException("Called while creating a loader");
+    }
+
+    /**
+     * @param id the loader id
+     * @param args the loader args
+     * @param callbacks the callbacks
+     *
+     * @return the new loader info
+     */
+    private LoaderInfo createLoader(int id, Bundle args, LoaderCallbacks<Object> callbacks) {
+        final LoaderInfo result = new LoaderInfo(id, args, callbacks);
+        result.loader = callbacks.onCreateLoader(id, args);
+        return result;
+    }
+
+    /**
+     * @param id the loader id
+     * @param args the loader args
+     * @param callbacks the callbacks
+     *
+     * @return the new installed loader info
+     */
+    private LoaderInfo createAndInstallLoader(int id, Bundle args,
+            LoaderCallbacks<Object> callbacks) {
+        try {
+            mCreatingLoader = true;
+            final LoaderInfo result = createLoader(id, args, callbacks);
+            installLoader(result);
+            return result;
+        } finally {
+            mCreatingLoader = false;
+        }
+    }
+
+    /** @param info the loader info to install */
+    private void installLoader(LoaderInfo info) {
+        mLoaders.put(info.id, info);
+        if (mStarted) info.start();
+    }
+
+    /**
+     * The state of one loader.
+     *
+     * @author Nikitenko Gleb
+     */
+    final class LoaderInfo implements Loader.OnLoadCompleteListener<Object>,
+            Loader.OnLoadCanceledListener<Object> {
+
+        /** The loader id. */
+        final int id;
+        /** The loader args. */
+        final Bundle args;
+        /** The callbacks. */
+        LoaderCallbacks<Object> callbacks;
+        /** The loader. */
+        Loader<Object> loader;
+        /** The loader is started. */
+        boolean started;
+        /** The data is loaded. */
+        boolean haveData;
+        /** The data is delivered. */
+        boolean deliveredData;
+        /** The last data. */
+        Object data;
+        /** The loader is retained. */
+        boolean retaining;
+        /** The loader was started before the retain. */
+        boolean retainingStarted;
+        /** The loader is destroyed. */
+        boolean destroyed;
+        /** The listeners are registered. */
+        boolean listenerRegistered;
+        /** The restarted loader, waiting for cancellation of this one. */
+        LoaderInfo pendingLoader;
+
+        /**
+         * @param id the loader id
+         * @param args the loader args
+         * @param callbacks the callbacks
+         */
+        LoaderInfo(int id, Bundle args, LoaderCallbacks<Object> callbacks) {
+            this.id = id; this.args = args; this.callbacks = callbacks;
+        }
+
+        /** Starts the loader. */
+        final void start() {
+            if (retaining && retainingStarted) {started = true; return;}
+            if (started) return;
+            started = true;
+            if (loader == null && callbacks != null) loader = callbacks.onCreateLoader(id, args);
+            if (loader == null) return;
+            if (!listenerRegistered) {
+                loader.registerListener(id, this);
+                loader.registerOnLoadCanceledListener(this);
+                listenerRegistered = true;
+            }
+            loader.startLoading();
+        }
+
+        /** Retains the loader. */
+        final void retain() {
+            retaining = true; retainingStarted = started;
+            started = false; callbacks = null;
+        }
+
+        /** Finishes the retain. */
+        final void finishRetain() {
+            if (retaining) {
+                retaining = false;
+                if (started != retainingStarted && !started) stop();
+            }
+            if (started && haveData) callOnLoadFinished(loader, data);
+        }
+
+        /** Stops the loader. */
+        final void stop() {
+            started = false;
+            if (retaining || loader == null || !listenerRegistered) return;
+            listenerRegistered = false;
+            loader.unregisterListener(this);
+            loader.unregisterOnLoadCanceledListener(this);
+            loader.stopLoading();
+        }
+
+        /** Cancels the load in flight. */
+        final void cancel() {
+            if (started && loader != null && listenerRegistered && !loader.cancelLoad())
+                onLoadCanceled(loader);
+        }
+
+        /** Destroys the loader. */
+        final void destroy() {
+            destroyed = true;
+            final boolean needReset = deliveredData;
+            deliveredData = false;
+            if (callbacks != null && loader != null && haveData && needReset)
+                callbacks.onLoaderReset(loader);
+            callbacks = null; data = null; haveData = false;
+            if (loader != null) {
+                if (listenerRegistered) {
+                    listenerRegistered = false;
+                    loader.unregisterListener(this);
+                    loader.unregisterOnLoadCanceledListener(this);
+                }
+                loader.reset();
+            }
+            if (pendingLoader != null) pendingLoader.destroy();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public final void onLoadCanceled(Loader<Object> loader) {
+            if (destroyed || mLoaders.get(id) != this) return;
+            final LoaderInfo pending = pendingLoader;
+            if (pending != null) {
+                pendingLoader = null;
+                mLoaders.put(id, null);
+                destroy();
+                installLoader(pending);
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public final void onLoadComplete(Loader<Object> loader, Object data) {
+            if (destroyed || mLoaders.get(id) != this) return;
+            final LoaderInfo pending = pendingLoader;
+            if (pending != null) {
+                pendingLoader = null;
+                mLoaders.put(id, null);
+                destroy();
+                installLoader(pending);
+                return;
+            }
+            if (this.data != data || !haveData) {
+                this.data = data; haveData = true;
+                if (started) callOnLoadFinished(loader, data);
+            }
+            final LoaderInfo inactive = mInactiveLoaders.get(id);
+            if (inactive != null && inactive != this) {
+                inactive.deliveredData = false;
+                inactive.destroy();
+                mInactiveLoaders.remove(id);
+            }
+        }
+
+        /**
+         * @param loader the loader
+         * @param data the data
+         */
+        final void callOnLoadFinished(Loader<Object> loader, Object data) {
+            if (callbacks == null) return;
+            callbacks.onLoadFinished(loader, data);
+            deliveredData = true;
+        }
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * 	AsyncTaskLoader.java
+ * 	benchmark
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package android.support.v4.content;
+
+import android.content.Context;
+import android.os.AsyncTask;
+import android.os.Handler;
+import android.os.OperationCanceledException;
+import android.os.SystemClock;
+
+import java.util.concurrent.Executor;
+
+/**
+ * The plain-JVM stub of support {@code AsyncTaskLoader}, with the same task bookkeeping
+ * and the same private fields, which the library sets by reflection.
+ * The results are dispatched on the main looper.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public abstract class AsyncTaskLoader<D> extends Loader<D> {
+
+    /** The task states. */
+    private static final int STATE_PENDING = 0, STATE_RUNNING = 1, STATE_FINISHED = 2;
+
+    /** The executor of tasks. */
+    private final Executor mExecutor;
+    /** The current task. */
+    volatile LoadTask mTask;
+    /** The cancelled task still running. */
+    volatile LoadTask mCancellingTask;
+    /** The minimal interval between loads. */
+    long mUpdateThrottle;
+    /** The uptime of last completion. */
+    long mLastLoadCompleteTime = -10000;
+    /** The main thread handler. */
+    Handler mHandler;
+
+    /** @param context the context */
+    public AsyncTaskLoader(Context context) {this(context, AsyncTask.THREAD_POOL_EXECUTOR);}
+
+    /**
+     * @param context the context
+     * @param executor the executor of tasks
+     */
+    private AsyncTaskLoader(Context context, Executor executor) {
+        super(context);
+        mExecutor = executor;
+    }
+
+    /** @param delayMS the minimal interval between loads, in milliseconds */
+    public void setUpdateThrottle(long delayMS) {
+        mUpdateThrottle = delayMS;
+        if (delayMS != 0) mHandler = new Handler();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void onForceLoad() {
+        super.onForceLoad();
+        cancelLoad();
+        mTask = new LoadTask();
+        executePendingTask();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean onCancelLoad() {
+        if (mTask == null) return false;
+        if (!mStarted) mContentChanged = true;
+        if (mCancellingTask != null) {
+            if (mTask.waiting) {
+                mTask.waiting = false;
+                mHandler.removeCallbacks(mTask);
+            }
+            mTask = null;
+            return false;
+        } else if (mTask.waiting) {
+            mTask.waiting = false;
+            mHandler.removeCallbacks(mTask);
+            mTask = null;
+            return false;
+        } else {
+            final boolean cancelled = mTask.cancel();
+            if (cancelled) {
+                mCancellingTask = mTask;
+                cancelLoadInBackground();
+            }
+            mTask = null;
+            return cancelled;
+        }
+    }
+
+    /** Calls on the main thread with the result of cancelled load. */
+    public void onCanceled(D data) {}
+
+    /** Executes the current task, unless the cancelled one still runs. */
+    void executePendingTask() {
+        if (mCancellingTask != null || mTask == null) return;
+        if (mTask.waiting) {
+            mTask.waiting = false;
+            mHandler.removeCallbacks(mTask);
+        }
+        if (mUpdateThrottle > 0 &&
+                SystemClock.uptimeMillis() < mLastLoadCompleteTime + mUpdateThrottle) {
+            mTask.waiting = true;
+            mHandler.postAtTime(mTask, mLastLoadCompleteTime + mUpdateThrottle);
+            return;
+        }
+        mTask.execute(mExecutor);
+    }
+
+    /**
+     * @param task the cancelled task
+     * @param data its result
+     */
+    void dispatchOnCancelled(LoadTask task, D data) {
+        onCanceled(data);
+        if (mCancellingTask == task) {
+            rollbackContentChanged();
+            mLastLoadCompleteTime = SystemClock.uptimeMillis();
+            mCancellingTask = null;
+            deliverCancellation();
+            executePendingTask();
+        }
+    }
+
+    /**
+     * @param task the completed task
+     * @param data its result
+     */
+    void dispatchOnLoadComplete(LoadTask task, D data) {
+        if (mTask != task) {
+            dispatchOnCancelled(task, data);
+        } else if (isAbandoned()) {
+            onCanceled(data);
+        } else {
+            commitContentChanged();
+            mLastLoadCompleteTime = SystemClock.uptimeMillis();
+            mTask = null;
+            deliverResult(data);
+        }
+    }
+
+    /** @return the result, on the loading thread */
+    public abstract D loadInBackground();
+
+    /** @return the result, on the loading thread */
+    protected D onLoadInBackground() {return loadInBackground();}
+
+    /** Cancels the load in flight, on the main thread. */
+    public void cancelLoadInBackground() {}
+
+    /** @return true if the load in flight is cancelled */
+    public boolean isLoadInBackgroundCanceled() {return mCancellingTask != null;}
+
+    /**
+     * The load task.
+     *
+     * @author Nikitenko Gleb
+     */
+    final class LoadTask implements Runnable {
+
+        /** The main thread handler. */
+        private final Handler mMain = new Handler();
+
+        /** The task is posted by the throttle. */
+        boolean waiting = false;
+
+        /** The task state. */
+        private int mState = STATE_PENDING;
+        /** The task is cancelled. */
+        private volatile boolean mCancelled = false;
+
+        /** @param executor the executor */
+        final void execute(Executor executor) {
+            executor.execute(new Runnable() {
+                /** {@inheritDoc} */
+                @Override
+                public final void run() {
+                    synchronized (LoadTask.this) {
+                        if (mState != STATE_PENDING) return;
+                        mState = STATE_RUNNING;
+                    }
+                    D result = null;
+                    try {
+                        if (!mCancelled) result = onLoadInBackground();
+                    } catch (OperationCanceledException exception) {
+                        if (!mCancelled) throw exception;
+                    } finally {
+                        synchronized (LoadTask.this) {mState = STATE_FINISHED;}
+                    }
+                    post(result);
+                }
+            });
+        }
+
+        /** @return true if the task is cancelled before its completion */
+        final boolean cancel() {
+            synchronized (this) {
+                if (mState == STATE_FINISHED || mCancelled) return false;
+                mCancelled = true;
+                if (mState == STATE_RUNNING) return true;
+                mState = STATE_FINISHED;
+            }
+            post(null);
+            return true;
+        }
+
+        /** @param result the result to dispatch on the main thread */
+        private void post(final D result) {
+            mMain.post(new Runnable() {
+                /** {@inheritDoc} */
+                @Override
+                public final void run() {
+                    if (mCancelled) dispatchOnCancelled(LoadTask.this, result);
+                    else dispatchOnLoadComplete(LoadTask.this, result);
+                }
+            });
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public final void run() {
+            waiting = false;
+            executePendingTask();
+        }
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * 	Loader.java
+ * 	benchmark
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package android.support.v4.content;
+
+import android.content.Context;
+import android.database.ContentObserver;
+import android.os.Handler;
+
+/**
+ * The plain-JVM stub of support {@code Loader}, with the same lifecycle.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public class Loader<D> {
+
+    /** The loader id. */
+    int mId;
+    /** The completion listener. */
+    OnLoadCompleteListener<D> mListener;
+    /** The cancellation listener. */
+    OnLoadCanceledListener<D> mOnLoadCanceledListener;
+    /** The context. */
+    Context mContext;
+    /** The loader is started. */
+    boolean mStarted = false;
+    /** The loader is abandoned. */
+    boolean mAbandoned = false;
+    /** The loader is reset. */
+    boolean mReset = true;
+    /** The content is changed while stopped. */
+    boolean mContentChanged = false;
+    /** The content change is being processed. */
+    boolean mProcessingChange = false;
+
+    /**
+     * The observer of content changes, which reloads.
+     *
+     * @author Nikitenko Gleb
+     */
+    public final class ForceLoadContentObserver extends ContentObserver {
+
+        /** Constructs a new {@link ForceLoadContentObserver}. */
+        public ForceLoadContentObserver() {super(new Handler());}
+
+        /** {@inheritDoc} */
+        @Override
+        public final boolean deliverSelfNotifications() {return true;}
+
+        /** {@inheritDoc} */
+        @Override
+        public final void onChange(boolean selfChange) {onContentChanged();}
+    }
+
+    /**
+     * The completion listener.
+     *
+     * @author Nikitenko Gleb
+     */
+    public interface OnLoadCompleteListener<D> {
+        /** Calls on completion. */
+        void onLoadComplete(Loader<D> loader, D data);
+    }
+
+    /**
+     * The cancellation listener.
+     *
+     * @author Nikitenko Gleb
+     */
+    public interface OnLoadCanceledListener<D> {
+        /** Calls on cancellation. */
+        void onLoadCanceled(Loader<D> loader);
+    }
+
+    /** @param context the context */
+    public Loader(Context context) {mContext = context.getApplicationContext();}
+
+    /** Delivers the result to the listener. */
+    public void deliverResult(D data) {
+        if (mListener != null) mListener.onLoadComplete(this, data);
+    }
+
+    /** Delivers the cancellation to the listener. */
+    public void deliverCancellation() {
+        if (mOnLoadCanceledListener != null) mOnLoadCanceledListener.onLoadCanceled(this);
+    }
+
+    /** @return the context */
+    public Context getContext() {return mContext;}
+
+    /** @return the loader id */
+    public int getId() {return mId;}
+
+    /** Registers the completion listener. */
+    public void registerListener(int id, OnLoadCompleteListener<D> listener) {
+        if (mListener != null) throw new IllegalStateException("There is already a listener");
+        mListener = listener; mId = id;
+    }
+
+    /** Unregisters the completion listener. */
+    public void unregisterListener(OnLoadCompleteListener<D> listener) {
+        if (mListener == null) throw new IllegalStateException("No listener register");
+        if (mListener != listener) throw new IllegalArgumentException("Wrong listener");
+        mListener = null;
+    }
+
+    /** Registers the cancellation listener. */
+    public void registerOnLoadCanceledListener(OnLoadCanceledListener<D> listener) {
+        if (mOnLoadCanceledListener != null)
+            throw new IllegalStateException("There is already a listener");
+        mOnLoadCanceledListener = listener;
+    }
+
+    /** Unregisters the cancellation listener. */
+    public void unregisterOnLoadCanceledListener(OnLoadCanceledListener<D> listener) {
+        if (mOnLoadCanceledListener == null)
+            throw new IllegalStateException("No listener register");
+        if (mOnLoadCanceledListener != listener)
+            throw new IllegalArgumentException("Wrong listener");
+        mOnLoadCanceledListener = null;
+    }
+
+    /** @return true if started */
+    public boolean isStarted() {return mStarted;}
+
+    /** @return true if abandoned */
+    public boolean isAbandoned() {return mAbandoned;}
+
+    /** @return true if reset */
+    public boolean isReset() {return mReset;}
+
+    /** Starts the loading. */
+    public final void startLoading() {
+        mStarted = true; mReset = false; mAbandoned = false;
+        onStartLoading();
+    }
+
+    /** Calls on start. */
+    protected void onStartLoading() {}
+
+    /** @return true if the load in flight is cancelled */
+    public boolean cancelLoad() {return onCancelLoad();}
+
+    /** @return true if the load in flight is cancelled */
+    protected boolean onCancelLoad() {return false;}
+
+    /** Forces the new load. */
+    public void forceLoad() {onForceLoad();}
+
+    /** Calls on force load. */
+    protected void onForceLoad() {}
+
+    /** Stops the loading. */
+    public void stopLoading() {
+        mStarted = false;
+        onStopLoading();
+    }
+
+    /** Calls on stop. */
+    protected void onStopLoading() {}
+
+    /** Abandons the loader, replaced by the new one. */
+    public void abandon() {
+        mAbandoned = true;
+        onAbandon();
+    }
+
+    /** Calls on abandon. */
+    protected void onAbandon() {}
+
+    /** Resets the loader. */
+    public void reset() {
+        onReset();
+        mReset = true; mStarted = false; mAbandoned = false;
+        mContentChanged = false; mProcessingChange = false;
+    }
+
+    /** Calls on reset. */
+    protected void onReset() {}
+
+    /** @return true if the content was changed while stopped */
+    public boolean takeContentChanged() {
+        final boolean result = mContentChanged;
+        mContentChanged = false;
+        mProcessingChange |= result;
+        return result;
+    }
+
+    /** Commits the processed content change. */
+    public void commitContentChanged() {mProcessingChange = false;}
+
+    /** Restores the content change of cancelled load. */
+    public void rollbackContentChanged() {
+        if (mProcessingChange) onContentChanged();
+    }
+
+    /** Reloads if started, otherwise marks the content changed. */
+    public void onContentChanged() {
+        if (mStarted) forceLoad();
+        else mContentChanged = true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {return getClass().getSimpleName() + "{id=" + mId + "}";}
+}
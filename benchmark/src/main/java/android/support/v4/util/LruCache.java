@@ -0,0 +1,122 @@
+/*
+ * 	LruCache.java
+ * 	benchmark
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package android.support.v4.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The plain-JVM stub of support {@code LruCache}, on the access-ordered linked hash map.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+@SuppressWarnings("unused")
+public class LruCache<K, V> {
+
+    /** The entries in access order. */
+    private final LinkedHashMap<K, V> mMap = new LinkedHashMap<>(0, 0.75f, true);
+    /** The maximum size. */
+    private int mMaxSize;
+    /** The current size. */
+    private int mSize = 0;
+
+    /** @param maxSize the maximum size, in {@link #sizeOf} units */
+    public LruCache(int maxSize) {
+        if (maxSize <= 0) throw new IllegalArgumentException("maxSize <= 0");
+        mMaxSize = maxSize;
+    }
+
+    /** @return the value, or null */
+    public final V get(K key) {
+        synchronized (this) {return mMap.get(key);}
+    }
+
+    /** @return the previous value, or null */
+    public final V put(K key, V value) {
+        final V previous;
+        synchronized (this) {
+            mSize += sizeOf(key, value);
+            previous = mMap.put(key, value);
+            if (previous != null) mSize -= sizeOf(key, previous);
+        }
+        if (previous != null) entryRemoved(false, key, previous, value);
+        trimToSize(mMaxSize);
+        return previous;
+    }
+
+    /** @return the removed value, or null */
+    public final V remove(K key) {
+        final V previous;
+        synchronized (this) {
+            previous = mMap.remove(key);
+            if (previous != null) mSize -= sizeOf(key, previous);
+        }
+        if (previous != null) entryRemoved(false, key, previous, null);
+        return previous;
+    }
+
+    /** Evicts the eldest entries down to the size. */
+    public void trimToSize(int maxSize) {
+        while (true) {
+            final K key; final V value;
+            synchronized (this) {
+                if (mSize <= maxSize || mMap.isEmpty()) return;
+                final Iterator<Map.Entry<K, V>> iterator = mMap.entrySet().iterator();
+                final Map.Entry<K, V> eldest = iterator.next();
+                key = eldest.getKey(); value = eldest.getValue();
+                iterator.remove();
+                mSize -= sizeOf(key, value);
+            }
+            entryRemoved(true, key, value, null);
+        }
+    }
+
+    /** Evicts all entries. */
+    public final void evictAll() {trimToSize(-1);}
+
+    /** @return the current size */
+    public final synchronized int size() {return mSize;}
+
+    /** @return the maximum size */
+    public final synchronized int maxSize() {return mMaxSize;}
+
+    /** @param maxSize the new maximum size */
+    public void resize(int maxSize) {
+        synchronized (this) {mMaxSize = maxSize;}
+        trimToSize(maxSize);
+    }
+
+    /** @return the size of entry, 1 by default */
+    protected int sizeOf(K key, V value) {return 1;}
+
+    /** Calls on eviction, removal or replacement. */
+    protected void entryRemoved(boolean evicted, K key, V oldValue, V newValue) {}
+}
@@ -0,0 +1,83 @@
+/*
+ * 	Log.java
+ * 	benchmark
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package android.util;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+/**
+ * The plain-JVM stub of {@code android.util.Log}, prints warnings and errors to stderr.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+@SuppressWarnings("unused")
+public final class Log {
+
+    /** Constructs a new {@link Log}. */
+    private Log() {}
+
+    /** Sends a debug message, dropped. */
+    public static int d(String tag, String msg) {return 0;}
+
+    /** Sends a warning message. */
+    public static int w(String tag, String msg) {return print("W", tag, msg, null);}
+
+    /** Sends a warning message and exception. */
+    public static int w(String tag, String msg, Throwable tr) {return print("W", tag, msg, tr);}
+
+    /** Sends a warning exception. */
+    public static int w(String tag, Throwable tr) {return print("W", tag, "", tr);}
+
+    /** Sends an error message. */
+    public static int e(String tag, String msg) {return print("E", tag, msg, null);}
+
+    /** Sends an error message and exception. */
+    public static int e(String tag, String msg, Throwable tr) {return print("E", tag, msg, tr);}
+
+    /**
+     * @param level the log level
+     * @param tag the log tag
+     * @param msg the message
+     * @param tr the exception, or null
+     *
+     * @return the count of printed chars
+     */
+    private static int print(String level, String tag, String msg, Throwable tr) {
+        final StringWriter writer = new StringWriter();
+        writer.append(level).append('/').append(tag).append(": ").append(msg);
+        if (tr != null) {
+            writer.append('\n');
+            tr.printStackTrace(new PrintWriter(writer));
+        }
+        final String result = writer.toString();
+        System.err.println(result);
+        return result.length();
+    }
+}
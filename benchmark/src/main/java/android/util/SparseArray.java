@@ -0,0 +1,182 @@
+/*
+ * 	SparseArray.java
+ * 	benchmark
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package android.util;
+
+import java.util.Arrays;
+
+/**
+ * The plain-JVM stub of {@code android.util.SparseArray}: the ascending keys and values
+ * in parallel arrays, with binary search lookups.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+@SuppressWarnings({"unused", "unchecked"})
+public class SparseArray<E> implements Cloneable {
+
+    /** The keys, ascending. */
+    private int[] mKeys;
+    /** The values. */
+    private Object[] mValues;
+    /** The count of mappings. */
+    private int mSize = 0;
+
+    /** Constructs a new {@link SparseArray}. */
+    public SparseArray() {this(10);}
+
+    /** @param initialCapacity the initial capacity */
+    public SparseArray(int initialCapacity) {
+        mKeys = new int[initialCapacity]; mValues = new Object[initialCapacity];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SparseArray<E> clone() {
+        try {
+            final SparseArray<E> result = (SparseArray<E>) super.clone();
+            result.mKeys = mKeys.clone(); result.mValues = mValues.clone();
+            return result;
+        } catch (CloneNotSupportedException exception) {
+            throw new AssertionError(exception);
+        }
+    }
+
+    /** @return the value of key, or null */
+    public E get(int key) {return get(key, null);}
+
+    /** @return the value of key, or the default one */
+    public E get(int key, E valueIfKeyNotFound) {
+        final int index = search(key);
+        return index >= 0 ? (E) mValues[index] : valueIfKeyNotFound;
+    }
+
+    /** Removes the mapping of key, if any. */
+    public void delete(int key) {
+        final int index = search(key);
+        if (index >= 0) erase(index);
+    }
+
+    /** Alias for {@link #delete(int)}. */
+    public void remove(int key) {
+        final int index = search(key);
+        if (index >= 0) erase(index);
+    }
+
+    /** Removes the mapping at index. */
+    public void removeAt(int index) {erase(index);}
+
+    /** Puts or replaces the mapping. */
+    public void put(int key, E value) {
+        final int index = search(key);
+        if (index >= 0) mValues[index] = value;
+        else insert(~index, key, value);
+    }
+
+    /** @return the count of mappings */
+    public int size() {return mSize;}
+
+    /** @return the key at index */
+    public int keyAt(int index) {return mKeys[index];}
+
+    /** @return the value at index */
+    public E valueAt(int index) {return (E) mValues[index];}
+
+    /** Replaces the value at index. */
+    public void setValueAt(int index, E value) {mValues[index] = value;}
+
+    /** @return the index of key, or negative */
+    public int indexOfKey(int key) {
+        final int index = search(key);
+        return index >= 0 ? index : -1;
+    }
+
+    /** @return the first index of value by identity, or -1 */
+    public int indexOfValue(E value) {
+        for (int i = 0; i < mSize; i++) if (mValues[i] == value) return i;
+        return -1;
+    }
+
+    /** Removes all mappings. */
+    public void clear() {
+        Arrays.fill(mValues, 0, mSize, null);
+        mSize = 0;
+    }
+
+    /** Puts the mapping, optimized for the key greater than all others. */
+    public void append(int key, E value) {
+        if (mSize != 0 && key <= mKeys[mSize - 1]) {
+            final int index = search(key);
+            if (index >= 0) mValues[index] = value;
+            else insert(~index, key, value);
+        } else {
+            insert(mSize, key, value);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        final StringBuilder result = new StringBuilder(mSize * 28).append('{');
+        for (int i = 0; i < mSize; i++) {
+            if (i > 0) result.append(", ");
+            result.append(mKeys[i]).append('=').append(mValues[i]);
+        }
+        return result.append('}').toString();
+    }
+
+    /**
+     * @param key the key
+     * @return the index of key, or inverted insertion point
+     */
+    private int search(int key) {return Arrays.binarySearch(mKeys, 0, mSize, key);}
+
+    /** @param index the index of removed mapping */
+    private void erase(int index) {
+        final int tail = mSize - index - 1;
+        System.arraycopy(mKeys, index + 1, mKeys, index, tail);
+        System.arraycopy(mValues, index + 1, mValues, index, tail);
+        mValues[--mSize] = null;
+    }
+
+    /**
+     * @param index the insertion point
+     * @param key the key
+     * @param value the value
+     */
+    private void insert(int index, int key, E value) {
+        if (mSize == mKeys.length) {
+            final int capacity = Math.max(4, mSize * 2);
+            mKeys = Arrays.copyOf(mKeys, capacity); mValues = Arrays.copyOf(mValues, capacity);
+        }
+        final int tail = mSize - index;
+        System.arraycopy(mKeys, index, mKeys, index + 1, tail);
+        System.arraycopy(mValues, index, mValues, index + 1, tail);
+        mKeys[index] = key; mValues[index] = value; mSize++;
+    }
+}
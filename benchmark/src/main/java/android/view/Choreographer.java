@@ -0,0 +1,90 @@
+/*
+ * 	Choreographer.java
+ * 	benchmark
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package android.view;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import java.util.IdentityHashMap;
+
+/**
+ * The plain-JVM stub of {@code android.view.Choreographer}: each frame callback runs
+ * as the next message of the main looper, without the vsync wait.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+@SuppressWarnings("unused")
+public final class Choreographer {
+
+    /** The instance. */
+    private static final Choreographer INSTANCE = new Choreographer();
+
+    /** The main thread handler. */
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+    /** The posted frames by callbacks. */
+    private final IdentityHashMap<FrameCallback, Runnable> mFrames = new IdentityHashMap<>();
+
+    /** Constructs a new {@link Choreographer}. */
+    private Choreographer() {}
+
+    /** @return the choreographer */
+    public static Choreographer getInstance() {return INSTANCE;}
+
+    /** Posts the callback to the next frame. */
+    public void postFrameCallback(final FrameCallback callback) {
+        final Runnable frame = new Runnable() {
+            /** {@inheritDoc} */
+            @Override
+            public final void run() {
+                mFrames.remove(callback);
+                callback.doFrame(System.nanoTime());
+            }
+        };
+        removeFrameCallback(callback);
+        mFrames.put(callback, frame);
+        mHandler.post(frame);
+    }
+
+    /** Removes the posted callback. */
+    public void removeFrameCallback(FrameCallback callback) {
+        final Runnable frame = mFrames.remove(callback);
+        if (frame != null) mHandler.removeCallbacks(frame);
+    }
+
+    /**
+     * The frame callback.
+     *
+     * @author Nikitenko Gleb
+     */
+    public interface FrameCallback {
+        /** Calls on frame. */
+        void doFrame(long frameTimeNanos);
+    }
+}
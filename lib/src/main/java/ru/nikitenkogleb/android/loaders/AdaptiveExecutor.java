@@ -0,0 +1,155 @@
+/*
+ * 	AdaptiveExecutor.java
+ * 	app
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package ru.nikitenkogleb.android.loaders;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.HashMap;
+import java.util.concurrent.Executor;
+
+import proguard.annotation.Keep;
+import proguard.annotation.KeepPublicProtectedClassMembers;
+
+/**
+ * The {@link PriorityExecutor} with the latency-driven concurrency limit.
+ * <p>
+ * Follows the AIMD policy: while loads run close to the baseline latency and the limit is
+ * saturated, the limit grows by one per round of loads; when a load takes more than
+ * {@link #TOLERANCE} baselines, the limit shrinks by {@link #BACKOFF}, at most once per round,
+ * since the loads ran under the old limit are slow together. Each kind of task
+ * (the loader class) has its own baseline, so slow loads aren't judged by fast ones.
+ * The baseline tracks the minimal observed latency and slowly drifts up, so it follows
+ * the changes of the workload.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+@Keep@KeepPublicProtectedClassMembers
+@SuppressWarnings({"WeakerAccess", "unused"})
+public class AdaptiveExecutor extends PriorityExecutor {
+
+    /** The latency tolerance, in baselines. */
+    public static final double TOLERANCE = 2.0;
+    /** The multiplicative decrease factor. */
+    public static final double BACKOFF = 0.9;
+    /** The baseline drift divider. */
+    private static final int DRIFT = 64;
+
+    /** The kind of tasks without own one. */
+    private static final Object UNKNOWN = new Object();
+
+    /** The minimal limit. */
+    private final int mMinLimit;
+    /** The maximal limit. */
+    private final int mMaxLimit;
+
+    /** The baseline latencies by kinds of tasks, in nanoseconds. */
+    private final HashMap<Object, Long> mBaselines = new HashMap<>();
+    /** The fractional limit. */
+    private double mEstimate;
+    /** The count of completions left in the round of last backoff. */
+    private int mRound = 0;
+
+    /**
+     * Constructs a new {@link AdaptiveExecutor} within [1, 2 * available processors] limits,
+     * starting from the available processors.
+     *
+     * @param delegate the delegate executor
+     */
+    public AdaptiveExecutor(@NonNull Executor delegate) {
+        this(delegate, 1, Runtime.getRuntime().availableProcessors() * 2,
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a new {@link AdaptiveExecutor}, starting from the minimal limit.
+     *
+     * @param delegate the delegate executor
+     * @param minLimit the minimal concurrency limit
+     * @param maxLimit the maximal concurrency limit
+     */
+    public AdaptiveExecutor(@NonNull Executor delegate, int minLimit, int maxLimit) {
+        this(delegate, minLimit, maxLimit, minLimit);
+    }
+
+    /**
+     * Constructs a new {@link AdaptiveExecutor}.
+     *
+     * @param delegate the delegate executor
+     * @param minLimit the minimal concurrency limit
+     * @param maxLimit the maximal concurrency limit
+     * @param limit the initial concurrency limit
+     */
+    public AdaptiveExecutor(@NonNull Executor delegate, int minLimit, int maxLimit, int limit) {
+        super(delegate, Math.max(minLimit, Math.min(maxLimit, limit)));
+        if (maxLimit < minLimit)
+            throw new IllegalArgumentException("Max limit less than min: " + maxLimit);
+        mMinLimit = minLimit; mMaxLimit = maxLimit; mEstimate = getLimit();
+    }
+
+    /**
+     * @param kind the kind of task, or null
+     * @return the baseline latency of kind in nanoseconds, or 0 if not known yet
+     */
+    public final synchronized long getBaseline(@Nullable Object kind) {
+        final Long result = mBaselines.get(kind != null ? kind : UNKNOWN);
+        return result != null ? result : 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final void onCompleted(@Nullable Object kind, long latency, int running) {
+        final int limit;
+        synchronized (this) {
+            final Object key = kind != null ? kind : UNKNOWN;
+            final Long last = mBaselines.get(key);
+            long baseline = last != null ? last : 0;
+            if (baseline == 0 || latency < baseline) baseline = latency;
+            else baseline += (latency - baseline) / DRIFT;
+            mBaselines.put(key, baseline);
+
+            final boolean slow = latency > baseline * TOLERANCE;
+            final boolean round = mRound > 0;
+            if (round) mRound--;
+            if (slow && round) return;
+            if (slow) {
+                // The other loads in flight started under the old limit, so don't judge them
+                mRound = running - 1;
+                mEstimate = Math.max(mMinLimit, mEstimate * BACKOFF);
+            } else if (running >= getLimit())
+                mEstimate = Math.min(mMaxLimit, mEstimate + 1.0 / mEstimate);
+            else return;
+
+            limit = (int) mEstimate;
+            if (limit == getLimit()) return;
+        }
+        setLimit(limit);
+    }
+}
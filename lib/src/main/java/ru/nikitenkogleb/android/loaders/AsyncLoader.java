@@ -0,0 +1,264 @@
+/*
+ * 	AsyncLoader.java
+ * 	app
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package ru.nikitenkogleb.android.loaders;
+
+import android.content.Context;
+import android.os.CancellationSignal;
+import android.os.OperationCanceledException;
+import android.support.annotation.AnyThread;
+import android.support.annotation.MainThread;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import proguard.annotation.Keep;
+import proguard.annotation.KeepPublicProtectedClassMembers;
+
+/**
+ * The One-Shot Loader of asynchronous operations.
+ * <p>
+ * {@link #load(CancellationSignal)} starts the operation on the main thread and returns
+ * its {@link Completion}, so no thread is pinned while the operation is pending. The
+ * outcome is delivered on the main thread as usual result or failure. Cancellation of
+ * the loader fires the operation signal by {@link #cancelLoadInBackground()}.
+ * <p>
+ * The timeout of {@link #setTimeout(long)} fires the signal too, and the operation
+ * outcome is ignored then: the load fails with
+ * {@link java.util.concurrent.TimeoutException}, unless {@link #onTimeout()} supplies the result.
+ *
+ * @param <T> the type of result
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+@Keep@KeepPublicProtectedClassMembers
+@SuppressWarnings({"WeakerAccess", "unused"})
+public abstract class AsyncLoader<T> extends OneShotLoader<T> {
+
+    /** The pending completion. */
+    @Nullable private Completion<T> mCompletion = null;
+
+    /** The cancellation dispatch. */
+    private final Runnable mCancellation = new Runnable() {
+        /** {@inheritDoc} */
+        @Override
+        public final void run() {deliverCancellation();}
+    };
+
+    /**
+     * Constructs a new {@link AsyncLoader}.
+     *
+     * @param context the activity-context
+     */
+    public AsyncLoader(@NonNull Context context) {
+        super(context);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final void onForceLoad() {
+        cancelLoad();
+        final CancellationSignal signal = beginLoad();
+        Completion<T> completion;
+        try {
+            completion = load(signal);
+        } catch (RuntimeException exception) {
+            completion = new Completion<>();
+            completion.fail(exception);
+        }
+        mCompletion = completion;
+        completion.setListener(new Listener(completion));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    final void abandonLoad() {mCompletion = null;}
+
+    /** {@inheritDoc} */
+    @Override
+    protected final boolean onCancelLoad() {
+        if (mCompletion == null) return false;
+        mCompletion = null;
+        cancelLoadInBackground();
+        endLoad(false, false);
+        onCanceled(null);
+        // Not inline, the manager sets the pending loader after cancel
+        HANDLER.post(mCancellation);
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Nullable @Override
+    protected final T loadInBackground(@NonNull CancellationSignal cancellationSignal) {
+        throw new IllegalStateException("Asynchronous loader");
+    }
+
+    /**
+     * Starts the asynchronous operation.
+     *
+     * @param cancellationSignal the operation cancellation signal
+     * @return the completion of operation
+     */
+    @MainThread @NonNull
+    protected abstract Completion<T> load(@NonNull CancellationSignal cancellationSignal);
+
+    /**
+     * Dispatches the outcome of completion on the main thread.
+     *
+     * @param completion the completion
+     * @param value the result
+     * @param error the failure or null
+     */
+    private void onCompleted(@NonNull Completion<T> completion,
+            @Nullable T value, @Nullable Throwable error) {
+        if (mCompletion != completion) return;
+        mCompletion = null;
+        endLoad(error == null, error != null && !(error instanceof OperationCanceledException));
+        if (error instanceof OperationCanceledException) onCanceled(value);
+        else if (error != null) deliverFailure(error);
+        else deliverResult(value);
+    }
+
+    /**
+     * The listener of pending completion.
+     *
+     * @author Nikitenko Gleb
+     * @since 1.0, 18/10/2026
+     */
+    private final class Listener implements Completion.Listener<T> {
+
+        /** The completion. */
+        @NonNull private final Completion<T> mSource;
+
+        /**
+         * Constructs a new {@link Listener}.
+         *
+         * @param source the completion
+         */
+        Listener(@NonNull Completion<T> source) {mSource = source;}
+
+        /** {@inheritDoc} */
+        @Override
+        public final void onComplete(@Nullable final T value, @Nullable final Throwable error) {
+            HANDLER.post(new Runnable() {
+                /** {@inheritDoc} */
+                @Override
+                public final void run() {onCompleted(mSource, value, error);}
+            });
+        }
+    }
+
+    /**
+     * The completion of asynchronous operation.
+     * <p>
+     * Completes only once, by result or failure, from any thread.
+     *
+     * @param <T> the type of result
+     *
+     * @author Nikitenko Gleb
+     * @since 1.0, 18/10/2026
+     */
+    @Keep@KeepPublicProtectedClassMembers
+    public static final class Completion<T> {
+
+        /** The lock. */
+        private final Object mLock = new Object();
+        /** The completion flag. */
+        private boolean mDone = false;
+        /** The result. */
+        @Nullable private T mValue = null;
+        /** The failure. */
+        @Nullable private Throwable mError = null;
+        /** The listener. */
+        @Nullable private Listener<T> mListener = null;
+
+        /**
+         * @param value the result
+         * @return true if completed by this call
+         */
+        @AnyThread
+        public final boolean complete(@Nullable T value) {return finish(value, null);}
+
+        /**
+         * @param error the failure
+         * @return true if completed by this call
+         */
+        @AnyThread
+        public final boolean fail(@NonNull Throwable error) {return finish(null, error);}
+
+        /** @return true if completed */
+        @AnyThread
+        public final boolean isDone() {
+            synchronized (mLock) {return mDone;}
+        }
+
+        /**
+         * @param value the result
+         * @param error the failure or null
+         * @return true if completed by this call
+         */
+        private boolean finish(@Nullable T value, @Nullable Throwable error) {
+            final Listener<T> listener;
+            synchronized (mLock) {
+                if (mDone) return false;
+                mDone = true; mValue = value; mError = error;
+                listener = mListener; mListener = null;
+            }
+            if (listener != null) listener.onComplete(value, error);
+            return true;
+        }
+
+        /**
+         * Sets the listener, called at once if completed already.
+         *
+         * @param listener the listener
+         */
+        final void setListener(@NonNull Listener<T> listener) {
+            synchronized (mLock) {
+                if (!mDone) {mListener = listener; return;}
+            }
+            listener.onComplete(mValue, mError);
+        }
+
+        /**
+         * The listener of completion.
+         *
+         * @param <T> the type of result
+         */
+        interface Listener<T> {
+
+            /**
+             * Calls once on the completing thread.
+             *
+             * @param value the result
+             * @param error the failure or null
+             */
+            void onComplete(@Nullable T value, @Nullable Throwable error);
+        }
+    }
+}
@@ -29,15 +29,27 @@
 package ru.nikitenkogleb.android.loaders;
 
 import android.content.Context;
+import android.os.Bundle;
 import android.os.CancellationSignal;
+import android.os.Handler;
+import android.os.Looper;
 import android.os.OperationCanceledException;
+import android.os.SystemClock;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
+import android.support.annotation.WorkerThread;
 import android.support.v4.content.AsyncTaskLoader;
 import android.util.Log;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import proguard.annotation.Keep;
 import proguard.annotation.KeepPublicProtectedClassMembers;
@@ -56,7 +68,24 @@ abstract class BaseLoader<T> extends AsyncTaskLoader<T> {
     private static final String TAG = "BaseLoader";
 
     /** The executor field. */
-    private static final Field FIELD_EXECUTOR = getExecutorField();
+    private static final Field FIELD_EXECUTOR = getField("mExecutor");
+    /** The pending task field. */
+    private static final Field FIELD_TASK = getField("mTask");
+
+    /** The main thread handler. */
+    static final Handler HANDLER = new Handler(Looper.getMainLooper());
+
+    /** The scheduler of load deadlines. */
+    private static final ScheduledExecutorService WATCHDOG =
+            new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+                /** {@inheritDoc} */
+                @Override
+                public final Thread newThread(@NonNull Runnable runnable) {
+                    final Thread result = new Thread(runnable, "LoaderWatchdog");
+                    result.setDaemon(true);
+                    return result;
+                }
+            });
 
     /** The cancellation signal. */
     @Nullable
@@ -64,10 +93,105 @@ abstract class BaseLoader<T> extends AsyncTaskLoader<T> {
 
     /** The loaded data. */
     @Nullable private T mData = null;
+    /** The replaced data, released once the manager confirms the delivery of newer one. */
+    @Nullable private ArrayList<T> mReplaced = null;
 
     /** Skip nulls, flag */
     private boolean mSkipNulls = false;
 
+    /** The runtime executor. */
+    @Nullable private Executor mExecutor = null;
+    /** The load priority. */
+    private int mPriority = PriorityExecutor.PRIORITY_NORMAL;
+
+    /** The load key. */
+    @Nullable private volatile Object mKey = null;
+    /** The args of the load key, computed on demand, or null. */
+    @Nullable private Bundle mKeyArgs = null;
+    /** The load key is computed on demand, flag. */
+    private boolean mLazyKey = false;
+    /** Share identical in-flight loads, flag. */
+    private volatile boolean mSingleFlight = false;
+
+    /** The load is queued or runs, or its result is not dispatched yet. */
+    private volatile boolean mInFlight = false;
+
+    /** The load timeout, in milliseconds, or 0. */
+    private volatile long mTimeout = 0;
+    /** The current load is timed out. */
+    private volatile boolean mTimedOut = false;
+
+    /** The failure of last background load. */
+    @Nullable private volatile Throwable mFailure = null;
+    /** The retry policy. */
+    @Nullable private RetryPolicy mRetryPolicy = null;
+    /** The count of retries made. */
+    private int mAttempt = 0;
+
+    /** The retry of failed load. */
+    private final Runnable mRetry = new Runnable() {
+        /** {@inheritDoc} */
+        @Override
+        public final void run() {
+            if (isStarted()) {
+                forceLoad();
+            }
+        }
+    };
+
+    /** The nano-time of asynchronous load start, or 0. */
+    private long mBeganNanos = 0;
+    /** The deadline of asynchronous load, or null. */
+    @Nullable private Runnable mAsyncDeadline = null;
+
+    /** The nano-time of last submit to the executor, or 0. */
+    private volatile long mQueuedNanos = 0;
+    /** The nano-time of last finished background load, or 0. */
+    private volatile long mFinishedNanos = 0;
+
+    /** The manager callbacks. */
+    @Nullable private Callbacks mCallbacks = null;
+    /** The failure not delivered yet, while stopped or unbound. */
+    @Nullable private Throwable mPendingFailure = null;
+    /** Delivers the pending failure. */
+    private final Runnable mFlushFailure = new Runnable() {
+        /** {@inheritDoc} */
+        @Override
+        public final void run() {
+            final Throwable failure = mPendingFailure;
+            if (failure == null || isReset() || !isStarted() || mCallbacks == null) return;
+            mPendingFailure = null;
+            mCallbacks.onLoadFailed(BaseLoader.this, failure);
+        }
+    };
+    /** The minimal interval between progress deliveries, in milliseconds. */
+    private volatile long mProgressThrottle = 100;
+    /** The progress lock. */
+    private final Object mProgressLock = new Object();
+    /** The last published partial result. */
+    @Nullable private Object mPartial = null;
+    /** The progress delivery is scheduled. */
+    private boolean mProgressPending = false;
+    /** The uptime of last progress delivery. */
+    private long mProgressTime = 0;
+
+    /** The progress delivery. */
+    private final Runnable mProgress = new Runnable() {
+        /** {@inheritDoc} */
+        @Override
+        public final void run() {
+            final Object partial;
+            synchronized (mProgressLock) {
+                if (!mProgressPending) return;
+                partial = mPartial; mPartial = null; mProgressPending = false;
+                mProgressTime = SystemClock.uptimeMillis();
+            }
+            if (mCallbacks != null && isStarted() && mInFlight) {
+                mCallbacks.onLoadProgress(BaseLoader.this, partial);
+            }
+        }
+    };
+
     /**
      * Constructs a new {@link OneShotLoader}.
      *
@@ -87,7 +211,25 @@ abstract class BaseLoader<T> extends AsyncTaskLoader<T> {
     public BaseLoader(@NonNull Context context, @NonNull Executor executor, boolean skipNulls) {
         super(context);
         mSkipNulls = skipNulls;
-        setExecutor(executor);
+        mExecutor = executor;
+        setExecutor(executor instanceof PriorityExecutor ? new Dispatcher() : executor);
+    }
+
+    /** @return the runtime executor */
+    @Nullable
+    final Executor getExecutor() {return mExecutor;}
+
+    /** @return the load priority */
+    @PriorityExecutor.Priority
+    public final int getPriority() {return mPriority;}
+
+    /**
+     * Sets the lane of next loads, takes effect with {@link PriorityExecutor} only.
+     *
+     * @param priority the load priority
+     */
+    public final void setPriority(@PriorityExecutor.Priority int priority) {
+        mPriority = priority;
     }
 
 
@@ -102,24 +244,240 @@ abstract class BaseLoader<T> extends AsyncTaskLoader<T> {
         }
     }
 
+    /** @return true if the next load task is queued */
+    private boolean hasPendingTask() {
+        try {
+            return FIELD_TASK != null && FIELD_TASK.get(this) != null;
+        } catch (IllegalAccessException exception) {
+            Log.w(TAG,  exception); return false;
+        }
+    }
+
+    /**
+     * Computes the {@link LoadKey} of args on first call, so the loads without
+     * the key-based features don't pay for it.
+     *
+     * @return the load key
+     */
+    @Nullable
+    public final Object getKey() {
+        final Object result = mKey;
+        if (result != null) return result;
+        synchronized (this) {
+            if (mLazyKey) {
+                mKey = LoadKey.of(getClass(), mKeyArgs);
+                mKeyArgs = null; mLazyKey = false;
+            }
+            return mKey;
+        }
+    }
+
+    /**
+     * Sets the identity of this load.
+     * {@link LoaderManager} assigns the {@link LoadKey} of the loader class and args.
+     *
+     * @param key the load key
+     */
+    public final synchronized void setKey(@Nullable Object key) {
+        mKey = key; mKeyArgs = null; mLazyKey = false;
+    }
+
+    /** @param args the args of load key, computed on demand, unless the key is set */
+    final synchronized void setKeyArgs(@Nullable Bundle args) {
+        if (mKey != null) return;
+        mKeyArgs = args; mLazyKey = true;
+    }
+
+    /**
+     * Enables the process-wide single-flight mode: an identical load by the same key attaches
+     * to the one already in flight and receives the same result instance. So it suits only
+     * for immutable results, which are not released.
+     *
+     * @param singleFlight true for share identical in-flight loads
+     */
+    public final void setSingleFlight(boolean singleFlight) {
+        mSingleFlight = singleFlight;
+    }
+
+    /**
+     * Sets the minimal interval between deliveries of partial results to the main thread.
+     * The partial results published within the interval are collapsed to the last one.
+     *
+     * @param throttle the interval, in milliseconds
+     */
+    public final void setProgressThrottle(long throttle) {
+        if (throttle < 0) throw new IllegalArgumentException("Negative throttle: " + throttle);
+        mProgressThrottle = throttle;
+    }
+
+    /**
+     * Sets the deadline of each background load. On expiration the cancellation signal
+     * fires and the loading thread is interrupted, so a hung query releases the thread
+     * as soon as it respects either. Then {@link #onTimeout()} supplies the result.
+     *
+     * @param timeout the timeout in milliseconds, or 0 for no deadline
+     */
+    public final void setTimeout(long timeout) {
+        if (timeout < 0) throw new IllegalArgumentException("Negative timeout: " + timeout);
+        mTimeout = timeout;
+    }
+
+    /**
+     * Sets the retry policy of failed loads. A failure is delivered to
+     * {@link LoaderManager#onLoadFailed(int, Throwable)} once the policy gives up.
+     *
+     * @param policy the retry policy, or null for no retries
+     */
+    public final void setRetryPolicy(@Nullable RetryPolicy policy) {
+        mRetryPolicy = policy;
+    }
+
+    /** @param callbacks the manager callbacks */
+    final void setCallbacks(@Nullable Callbacks callbacks) {
+        mCallbacks = callbacks;
+        // Nobody confirms the deliveries of unbound loader
+        if (callbacks == null) releaseReplaced();
+        if (callbacks != null && mPendingFailure != null) HANDLER.post(mFlushFailure);
+    }
+
+    /**
+     * Publishes the partial result from the background load.
+     * The final result is still delivered as usual.
+     *
+     * @param partial the partial result
+     */
+    protected final void publishProgress(@Nullable Object partial) {
+        synchronized (mProgressLock) {
+            mPartial = partial;
+            if (mProgressPending) return;
+            mProgressPending = true;
+            HANDLER.postAtTime(mProgress,
+                    Math.max(SystemClock.uptimeMillis(), mProgressTime + mProgressThrottle));
+        }
+    }
+
     /** {@inheritDoc} */
     @Nullable
     public final T loadInBackground() {
+        final CancellationSignal signal;
         synchronized (this) {
             if (isLoadInBackgroundCanceled())
                 throw new OperationCanceledException();
-            mCancellationSignal = new CancellationSignal();
+            mCancellationSignal = signal = new CancellationSignal();
+            mTimedOut = false;
+            mFailure = null;
+        }
+
+        final long timeout = mTimeout;
+        final ScheduledFuture<?> deadline = timeout == 0 ? null : WATCHDOG.schedule
+                (new Deadline(signal, Thread.currentThread()), timeout, TimeUnit.MILLISECONDS);
+
+        final LoaderMetrics metrics = LoaderMetrics.get();
+        final long start = metrics != null ? System.nanoTime() : 0;
+        if (metrics != null && mQueuedNanos != 0) {
+            metrics.onStarted(this, start - mQueuedNanos);
         }
 
+        boolean finished = false, failed = false;
         try {
-            return loadInBackground(mCancellationSignal);
+            final Object key = mSingleFlight ? getKey() : null;
+            T result;
+            try {
+                result = mSingleFlight && key != null ?
+                        SingleFlight.load(key, this, signal) : loadInBackground(signal);
+            } catch (RuntimeException exception) {
+                if (mTimedOut) {
+                    result = onTimeout();
+                    if (result == null) {
+                        failed = true;
+                        return fail(new TimeoutException("Load timed out: " + timeout + " ms"));
+                    }
+                } else if (exception instanceof OperationCanceledException ||
+                        isLoadInBackgroundCanceled()) {
+                    throw exception;
+                } else {
+                    failed = true;
+                    return fail(exception);
+                }
+            }
+            onLoaded(result);
+            finished = true;
+            return result;
         } finally {
             synchronized (this) {
                 mCancellationSignal = null;
             }
+            if (deadline != null) {
+                deadline.cancel(false);
+                // Clear the interrupt of the deadline, if any
+                //noinspection ResultOfMethodCallIgnored
+                Thread.interrupted();
+            }
+            if (metrics != null) {
+                report(metrics, start, finished, failed);
+            }
+        }
+    }
+
+    /**
+     * Reports the end of load.
+     *
+     * @param metrics the metrics
+     * @param start the nano-time of load start
+     * @param finished true if the result is loaded
+     * @param failed true if the load is failed or timed out
+     */
+    private void report(@NonNull LoaderMetrics metrics, long start,
+            boolean finished, boolean failed) {
+        final long end = System.nanoTime();
+        if (finished) {
+            mFinishedNanos = end;
+            metrics.onFinished(this, end - start);
+        } else if (failed) {
+            metrics.onFailed(this, end - start);
+        } else {
+            metrics.onCancelled(this, end - start);
+        }
+    }
+
+    /**
+     * @param failure the load failure
+     * @return null, the failure is dispatched by {@link #deliverResult(Object)}
+     */
+    @Nullable
+    private T fail(@NonNull Throwable failure) {
+        mFailure = failure;
+        return null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void onForceLoad() {
+        super.onForceLoad();
+        mInFlight = true;
+        final LoaderMetrics metrics = LoaderMetrics.get();
+        if (metrics != null) {
+            mQueuedNanos = System.nanoTime();
+            metrics.onQueued(this);
         }
     }
 
+    /**
+     * Supplies the result of timed out load, on the loading thread,
+     * or on the main thread for asynchronous loads. By default, the load fails with {@link TimeoutException}.
+     *
+     * @return the timeout result, or null for fail
+     */
+    @Nullable
+    protected T onTimeout() {return null;}
+
+    /** @return the nano-time of last finished background load, or 0 if taken already */
+    final long takeFinishedNanos() {
+        final long result = mFinishedNanos;
+        mFinishedNanos = 0;
+        return result;
+    }
+
 
     /** {@inheritDoc} */
     @Override
@@ -135,11 +493,34 @@ abstract class BaseLoader<T> extends AsyncTaskLoader<T> {
     /** {@inheritDoc} */
     @Override
     public final void deliverResult(@Nullable T data) {
+        settle(true);
+        dispatch(data);
+    }
+
+    /**
+     * Dispatches the result of load, or the peeked one.
+     *
+     * @param data the result
+     */
+    private void dispatch(@Nullable T data) {
+        final Throwable failure = mFailure;
+        if (failure != null) {
+            mFailure = null;
+            onFailed(failure);
+            return;
+        }
+        mAttempt = 0;
+        mPendingFailure = null;
         if (isReset()) {
-            releaseResources(data);
+            releaseResources(data, true);
+            return;
         }
 
         final T oldData = mData;
+        if (oldData != null && oldData != data && !isChanged(oldData, data)) {
+            releaseResources(data, true);
+            return;
+        }
         mData = data;
 
         final boolean isStarted = isStarted();
@@ -150,18 +531,58 @@ abstract class BaseLoader<T> extends AsyncTaskLoader<T> {
         }
 
         if (oldData != null && oldData != data) {
-            releaseResources(oldData);
+            // The client keeps the old data until the manager dispatches the new one
+            if (isStarted && mCallbacks != null) replace(oldData);
+            else releaseResources(oldData, false);
         }
 
     }
 
+    /** @param data the replaced data, for release on confirmation */
+    private void replace(@NonNull T data) {
+        if (mReplaced == null) mReplaced = new ArrayList<>(1);
+        mReplaced.add(data);
+    }
+
+    /**
+     * Releases the replaced data, except the delivered one.
+     * Calls by the manager, when the data has reached the client.
+     *
+     * @param data the delivered data
+     */
+    final void confirm(@Nullable Object data) {
+        final ArrayList<T> replaced = mReplaced;
+        if (replaced == null) return;
+        for (int i = replaced.size() - 1; i >= 0; i--) {
+            final T item = replaced.get(i);
+            if (item != data) {
+                replaced.remove(i);
+                releaseResources(item, true);
+            }
+        }
+    }
+
+    /** Releases all the replaced data. */
+    private void releaseReplaced() {
+        final ArrayList<T> replaced = mReplaced;
+        if (replaced == null) return;
+        mReplaced = null;
+        for (int i = 0; i < replaced.size(); i++) releaseResources(replaced.get(i), false);
+    }
+
     /** {@inheritDoc} */
     @Override
     protected final void onStartLoading() {
         super.onStartLoading();
+        if (mPendingFailure != null) HANDLER.post(mFlushFailure);
 
         if (needDelivery(mData)) {
             super.deliverResult(mData);
+        } else if (mData == null) {
+            final T result = peekResult();
+            if (result != null) {
+                deliverPeeked(result);
+            }
         }
 
         if (needLoad(mData)) {
@@ -179,23 +600,197 @@ abstract class BaseLoader<T> extends AsyncTaskLoader<T> {
     /** {@inheritDoc} */
     @Override
     public final void onCanceled(@Nullable T data) {
+        // The cancelled load is replaced by the queued one, if any
+        settle(isAbandoned() || !hasPendingTask());
+        mFailure = null;
         super.onCanceled(data);
-        releaseResources(data);
+        releaseResources(data, true);
+    }
+
+    /** @return true while the load runs, or its result is not dispatched yet */
+    final boolean isInFlight() {return mInFlight;}
+
+    /**
+     * Starts the load without the background task, for asynchronous loaders.
+     * Arms the deadline of {@link #setTimeout(long)} on the main thread.
+     *
+     * @return the cancellation signal of the load, cancelled by {@link #cancelLoadInBackground()}
+     */
+    @NonNull
+    final CancellationSignal beginLoad() {
+        final CancellationSignal result;
+        synchronized (this) {
+            mCancellationSignal = result = new CancellationSignal();
+            mTimedOut = false;
+            mFailure = null;
+        }
+        mInFlight = true;
+
+        final LoaderMetrics metrics = LoaderMetrics.get();
+        if (metrics != null) {
+            // Started at once, without the executor queue
+            metrics.onQueued(this);
+            mBeganNanos = mQueuedNanos = System.nanoTime();
+            metrics.onStarted(this, 0);
+        }
+
+        final long timeout = mTimeout;
+        if (timeout != 0) {
+            mAsyncDeadline = new AsyncDeadline(result, timeout);
+            HANDLER.postDelayed(mAsyncDeadline, timeout);
+        }
+        return result;
+    }
+
+    /**
+     * Finishes the load started by {@link #beginLoad()}.
+     *
+     * @param finished true if the result is loaded
+     * @param failed true if the load is failed
+     */
+    final void endLoad(boolean finished, boolean failed) {
+        synchronized (this) {
+            mCancellationSignal = null;
+        }
+        if (mAsyncDeadline != null) {
+            HANDLER.removeCallbacks(mAsyncDeadline);
+            mAsyncDeadline = null;
+        }
+        final LoaderMetrics metrics = LoaderMetrics.get();
+        if (metrics != null && mBeganNanos != 0) {
+            report(metrics, mBeganNanos, finished, failed);
+        }
+        mBeganNanos = 0;
+    }
+
+    /** Drops the asynchronous load timed out, so its late outcome is ignored. */
+    void abandonLoad() {}
+
+    /**
+     * Dispatches the failure of load started by {@link #beginLoad()}, on the main thread.
+     *
+     * @param failure the load failure
+     */
+    final void deliverFailure(@NonNull Throwable failure) {
+        mFailure = failure;
+        deliverResult(null);
+    }
+
+    /**
+     * Drops the pending progress and marks the load dispatched.
+     *
+     * @param done false if the next load is queued already
+     */
+    private void settle(boolean done) {
+        synchronized (mProgressLock) {
+            if (mProgressPending) {
+                HANDLER.removeCallbacks(mProgress);
+                mPartial = null; mProgressPending = false;
+            }
+        }
+        if (done && mInFlight) {
+            mInFlight = false;
+            onSettled();
+        }
     }
 
+    /**
+     * Retries the failed load by policy, or delivers the failure.
+     * The current data is kept as is.
+     *
+     * @param failure the load failure
+     */
+    private void onFailed(@NonNull Throwable failure) {
+        if (isReset()) return;
+        final long delay = mRetryPolicy != null ? mRetryPolicy.getDelay(mAttempt, failure) : -1;
+        if (delay >= 0) {
+            mAttempt++;
+            HANDLER.postDelayed(mRetry, delay);
+            return;
+        }
+        mAttempt = 0;
+        if (isStarted() && mCallbacks != null) {
+            mPendingFailure = null;
+            mCallbacks.onLoadFailed(this, failure);
+        } else {
+            // Delivered on start, or when the new manager binds the retained loader
+            mPendingFailure = failure;
+        }
+    }
+
+    /** @return true if identical in-flight loads are shared */
+    final boolean isSingleFlight() {return mSingleFlight;}
+
+    /**
+     * Calls after {@link #release(Object)}, when the client doesn't hold the data anymore.
+     *
+     * @param data the released data
+     */
+    void recycle(@NonNull T data) {}
+
+    /** Calls by result or cancellation dispatched on the main thread. */
+    void onSettled() {}
+
+    /**
+     * Calls on the loading thread by the loaded result, before its dispatch.
+     *
+     * @param result the loaded result
+     */
+    @WorkerThread
+    void onLoaded(@Nullable T result) {}
+
     /** {@inheritDoc} */
     @Override
     protected void onReset() {
         super.onReset();
+        HANDLER.removeCallbacks(mRetry);
+        HANDLER.removeCallbacks(mFlushFailure);
+        mAttempt = 0;
+        mPendingFailure = null;
         onStopLoading();
-        releaseResources(mData);
+        releaseReplaced();
+        releaseResources(mData, false);
         mData = null;
     }
 
-    /** @param data resources for release */
-    private void releaseResources(@Nullable T data) {
+    /**
+     * Delivers the peeked result on the main looper, without executor.
+     * Not delivers inline, because the framework prohibits to finish loaders being created.
+     *
+     * @param result the peeked result
+     */
+    private void deliverPeeked(@NonNull final T result) {
+        HANDLER.post(new Runnable() {
+            /** {@inheritDoc} */
+            @Override
+            public final void run() {offerPeeked(result);}
+        });
+    }
+
+    /**
+     * Delivers the peeked result, if still started without data. Calls on the main thread.
+     *
+     * @param result the peeked result
+     */
+    final void offerPeeked(@NonNull T result) {
+        if (isStarted() && mData == null) {
+            dispatch(result);
+        }
+    }
+
+    /**
+     * @param data resources for release
+     * @param recycle true if the client doesn't hold the data for sure: it was never
+     *                delivered, or the manager has confirmed the delivery of newer one
+     */
+    private void releaseResources(@Nullable T data, boolean recycle) {
         if (data != null ) {
             release(data);
+            if (recycle) recycle(data);
+            final LoaderMetrics metrics = LoaderMetrics.get();
+            if (metrics != null) {
+                metrics.onReleased(this);
+            }
         }
     }
 
@@ -203,6 +798,11 @@ abstract class BaseLoader<T> extends AsyncTaskLoader<T> {
     protected abstract void onDelivered(@Nullable T data, boolean isStarted);
     /** Check for need delivery. */
     protected abstract boolean needDelivery(@Nullable T data);
+    /** Synchronous lookup of result, before the load. */
+    @Nullable
+    protected abstract T peekResult();
+    /** Check the new result against current one. */
+    protected abstract boolean isChanged(@NonNull T oldData, @Nullable T data);
     /** Check for need startLoad. */
     protected abstract boolean needLoad(@Nullable T data);
     /** Release data. */
@@ -212,10 +812,129 @@ abstract class BaseLoader<T> extends AsyncTaskLoader<T> {
     @Nullable
     protected abstract T loadInBackground(@NonNull CancellationSignal cancellationSignal);
 
-    /** @return the super.mExecutor field */
-    @Nullable private static Field getExecutorField() {
+    /**
+     * The callbacks of loader manager.
+     *
+     * @author Nikitenko Gleb
+     * @since 1.0, 18/10/2026
+     */
+    interface Callbacks {
+
+        /**
+         * Calls on the main thread by partial result.
+         *
+         * @param loader the loader
+         * @param partial the partial result
+         */
+        void onLoadProgress(@NonNull BaseLoader<?> loader, @Nullable Object partial);
+
+        /**
+         * Calls on the main thread by failed load, when retries are over.
+         *
+         * @param loader the loader
+         * @param error the load failure
+         */
+        void onLoadFailed(@NonNull BaseLoader<?> loader, @NonNull Throwable error);
+    }
+
+    /**
+     * Fires the cancellation signal and interrupts the loading thread by timeout.
+     *
+     * @author Nikitenko Gleb
+     * @since 1.0, 18/10/2026
+     */
+    private final class Deadline implements Runnable {
+
+        /** The load signal. */
+        @NonNull private final CancellationSignal mSignal;
+        /** The loading thread. */
+        @NonNull private final Thread mThread;
+
+        /**
+         * Constructs a new {@link Deadline}.
+         *
+         * @param signal the load signal
+         * @param thread the loading thread
+         */
+        Deadline(@NonNull CancellationSignal signal, @NonNull Thread thread) {
+            mSignal = signal; mThread = thread;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public final void run() {
+            synchronized (BaseLoader.this) {
+                if (mCancellationSignal != mSignal) return;
+                mTimedOut = true;
+                mSignal.cancel();
+                mThread.interrupt();
+            }
+        }
+    }
+
+    /**
+     * The deadline of asynchronous load, on the main thread.
+     *
+     * @author Nikitenko Gleb
+     * @since 1.0, 18/10/2026
+     */
+    private final class AsyncDeadline implements Runnable {
+
+        /** The load signal. */
+        @NonNull private final CancellationSignal mSignal;
+        /** The timeout, in milliseconds. */
+        private final long mTimeout;
+
+        /**
+         * Constructs a new {@link AsyncDeadline}.
+         *
+         * @param signal the load signal
+         * @param timeout the timeout, in milliseconds
+         */
+        AsyncDeadline(@NonNull CancellationSignal signal, long timeout) {
+            mSignal = signal; mTimeout = timeout;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public final void run() {
+            synchronized (BaseLoader.this) {
+                if (mCancellationSignal != mSignal) return;
+                mTimedOut = true;
+            }
+            mAsyncDeadline = null;
+            abandonLoad();
+            mSignal.cancel();
+            final T result = onTimeout();
+            endLoad(result != null, result == null);
+            if (result != null) deliverResult(result);
+            else deliverFailure(new TimeoutException("Load timed out: " + mTimeout + " ms"));
+        }
+    }
+
+    /**
+     * Submits the loads to the {@link PriorityExecutor} in the current lane,
+     * with the loader class as the kind of task.
+     *
+     * @author Nikitenko Gleb
+     * @since 1.0, 18/10/2026
+     */
+    private final class Dispatcher implements Executor {
+        /** {@inheritDoc} */
+        @Override
+        public final void execute(@NonNull Runnable command) {
+            ((PriorityExecutor) mExecutor)
+                    .execute(command, mPriority, BaseLoader.this.getClass());
+        }
+    }
+
+    /**
+     * @param name the field name
+     * @return the field of {@link AsyncTaskLoader}
+     */
+    @Nullable private static Field getField(@NonNull String name) {
         try {
-            final Field result = AsyncTaskLoader.class.getDeclaredField("mExecutor");
+            final Field result = AsyncTaskLoader.class.getDeclaredField(name);
             result.setAccessible(true); return result;
         } catch (NoSuchFieldException exception) {
             Log.w(TAG, exception); return null;
@@ -0,0 +1,593 @@
+/*
+ * 	BundleCodec.java
+ * 	app
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package ru.nikitenkogleb.android.loaders;
+
+import android.os.Bundle;
+import android.os.Parcel;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * The compact codec of bundles.
+ * <p>
+ * Writes varint-encoded typed values and replaces keys with indices in the
+ * shared key dictionary. Bundles with unsupported values are marshalled
+ * by {@link Parcel}.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+final class BundleCodec {
+
+    /** The deflated frame flag. */
+    private static final int FLAG_DEFLATED = 1;
+
+    /** The codec payload. */
+    static final int KIND_CODEC = 0;
+    /** The marshalled parcel payload. */
+    static final int KIND_PARCEL = 1;
+
+    /** The value types. */
+    private static final int
+            TYPE_NULL = 0, TYPE_BOOLEAN = 1, TYPE_BYTE = 2, TYPE_SHORT = 3, TYPE_CHAR = 4,
+            TYPE_INT = 5, TYPE_LONG = 6, TYPE_FLOAT = 7, TYPE_DOUBLE = 8, TYPE_STRING = 9,
+            TYPE_BUNDLE = 10, TYPE_BOOLEANS = 11, TYPE_BYTES = 12, TYPE_INTS = 13,
+            TYPE_LONGS = 14, TYPE_FLOATS = 15, TYPE_DOUBLES = 16, TYPE_STRINGS = 17,
+            TYPE_INT_LIST = 18, TYPE_STRING_LIST = 19;
+
+    /** The strings charset. */
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    /** The key indices. */
+    @Nullable private final HashMap<String, Integer> mIndices;
+    /** The key dictionary. */
+    @NonNull private final ArrayList<String> mKeys;
+
+    /** The data buffer. */
+    @NonNull private byte[] mData;
+    /** The current position. */
+    private int mPosition = 0;
+    /** The data limit. */
+    private int mLimit;
+
+    /** Constructs a new writing BundleCodec. */
+    BundleCodec() {
+        mIndices = new HashMap<>();
+        mKeys = new ArrayList<>();
+        mData = new byte[256];
+        mLimit = mData.length;
+    }
+
+    /**
+     * Constructs a new reading BundleCodec.
+     *
+     * @param data the encoded data
+     * @param offset the data offset
+     * @param length the data length
+     */
+    BundleCodec(@NonNull byte[] data, int offset, int length) {
+        mIndices = null;
+        mKeys = new ArrayList<>();
+        mData = data;
+        mPosition = offset;
+        mLimit = offset + length;
+    }
+
+    /** @return the count of written bytes */
+    final int position() {return mPosition;}
+
+    /** @return true if all data was read */
+    final boolean isDrained() {return mPosition >= mLimit;}
+
+    /** @return the written bytes */
+    @NonNull
+    final byte[] toByteArray() {return Arrays.copyOf(mData, mPosition);}
+
+    /** Writes the key dictionary. */
+    final void writeKeys(@NonNull BundleCodec source) {
+        final int size = source.mKeys.size();
+        writeVarint(size);
+        for (int i = 0; i < size; i++) writeString(source.mKeys.get(i));
+    }
+
+    /**
+     * Registers all keys of the source dictionary in the same order,
+     * so the bytes encoded with the source stay valid.
+     *
+     * @param source the source dictionary
+     */
+    final void seed(@NonNull BundleCodec source) {
+        final int size = source.mKeys.size();
+        for (int i = 0; i < size; i++) {
+            final String key = source.mKeys.get(i);
+            //noinspection ConstantConditions
+            mIndices.put(key, mKeys.size());
+            mKeys.add(key);
+        }
+    }
+
+    /** Reads the key dictionary. */
+    final void readKeys() {
+        final int size = readVarint();
+        mKeys.clear();
+        mKeys.ensureCapacity(size);
+        for (int i = 0; i < size; i++) mKeys.add(readString());
+    }
+
+    /**
+     * @param value the bundle for encoding
+     * @return the encoded bytes with the shared key dictionary
+     *
+     * @throws IllegalArgumentException if the bundle has unsupported values
+     */
+    @NonNull
+    final byte[] encode(@NonNull Bundle value) {
+        final int start = mPosition, keys = mKeys.size();
+        try {
+            writeBundle(value);
+        } catch (IllegalArgumentException exception) {
+            for (int i = mKeys.size() - 1; i >= keys; i--)
+                //noinspection ConstantConditions
+                mIndices.remove(mKeys.remove(i));
+            mPosition = start;
+            throw exception;
+        }
+        final byte[] result = Arrays.copyOfRange(mData, start, mPosition);
+        mPosition = start;
+        return result;
+    }
+
+    /**
+     * @param data the encoded bytes
+     * @return the decoded bundle
+     */
+    @NonNull
+    final Bundle decode(@NonNull byte[] data) {
+        final byte[] buffer = mData; final int position = mPosition, limit = mLimit;
+        mData = data; mPosition = 0; mLimit = data.length;
+        try {return readBundle();}
+        finally {mData = buffer; mPosition = position; mLimit = limit;}
+    }
+
+    /**
+     * Packs the bundle without the shared key dictionary.
+     *
+     * @param value the bundle for packing
+     * @return the self-contained bytes
+     *
+     * @throws RuntimeException if the bundle can't be marshalled
+     */
+    @NonNull
+    static byte[] pack(@NonNull Bundle value) {
+        final BundleCodec codec = new BundleCodec();
+        byte[] payload; int kind = KIND_CODEC;
+        try {payload = codec.encode(value);}
+        catch (IllegalArgumentException exception)
+        {payload = marshall(value); kind = KIND_PARCEL;}
+        final BundleCodec result = new BundleCodec();
+        result.writeVarint(kind);
+        if (kind == KIND_CODEC) result.writeKeys(codec);
+        result.writeBytes(payload);
+        return result.toByteArray();
+    }
+
+    /**
+     * @param data the self-contained bytes
+     * @return the unpacked bundle
+     */
+    @NonNull
+    static Bundle unpack(@NonNull byte[] data) {
+        final BundleCodec codec = new BundleCodec(data, 0, data.length);
+        if (codec.readVarint() == KIND_PARCEL) return unmarshall(codec.readBytes());
+        codec.readKeys();
+        return codec.decode(codec.readBytes());
+    }
+
+    /**
+     * @param value the bundle
+     * @return the marshalled bytes
+     *
+     * @throws RuntimeException if the bundle has active objects
+     */
+    @NonNull
+    static byte[] marshall(@NonNull Bundle value) {
+        final Parcel parcel = Parcel.obtain();
+        try {parcel.writeBundle(value); return parcel.marshall();}
+        finally {parcel.recycle();}
+    }
+
+    /**
+     * @param data the marshalled bytes
+     * @return the bundle
+     */
+    @NonNull
+    static Bundle unmarshall(@NonNull byte[] data) {
+        final Parcel parcel = Parcel.obtain();
+        try {
+            parcel.unmarshall(data, 0, data.length);
+            parcel.setDataPosition(0);
+            final Bundle result = parcel.readBundle(BundleCodec.class.getClassLoader());
+            return result != null ? result : new Bundle();
+        } finally {parcel.recycle();}
+    }
+
+    /**
+     * Frames the data, deflated if it is not shorter than the threshold and shrinks.
+     *
+     * @param plain the plain data
+     * @param threshold the minimal size of deflated data, in bytes
+     * @return the framed data
+     */
+    @NonNull
+    static byte[] frame(@NonNull byte[] plain, int threshold) {
+        final BundleCodec result = new BundleCodec();
+        final byte[] deflated = plain.length >= threshold ? deflate(plain) : null;
+        if (deflated != null && deflated.length < plain.length) {
+            result.writeVarint(FLAG_DEFLATED);
+            result.writeVarint(plain.length);
+            result.writeBytes(deflated);
+        } else {
+            result.writeVarint(0);
+            result.writeBytes(plain);
+        }
+        return result.toByteArray();
+    }
+
+    /**
+     * @param data the framed data
+     * @return the plain data
+     */
+    @NonNull
+    static byte[] unframe(@NonNull byte[] data) {
+        final BundleCodec frame = new BundleCodec(data, 0, data.length);
+        final int flags = frame.readVarint();
+        if ((flags & FLAG_DEFLATED) == 0) return frame.readBytes();
+        final int length = frame.readVarint();
+        return inflate(frame.readBytes(), length);
+    }
+
+    /**
+     * @param data the source bytes
+     * @return the deflated bytes
+     */
+    @NonNull
+    static byte[] deflate(@NonNull byte[] data) {
+        final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            final ByteArrayOutputStream stream = new ByteArrayOutputStream(data.length / 2 + 16);
+            final byte[] buffer = new byte[1024];
+            while (!deflater.finished())
+                stream.write(buffer, 0, deflater.deflate(buffer));
+            return stream.toByteArray();
+        } finally {deflater.end();}
+    }
+
+    /**
+     * @param data the deflated bytes
+     * @param length the source length
+     * @return the source bytes
+     */
+    @NonNull
+    static byte[] inflate(@NonNull byte[] data, int length) {
+        final Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            final byte[] result = new byte[length];
+            int offset = 0;
+            while (offset < length && !inflater.finished())
+                offset += inflater.inflate(result, offset, length - offset);
+            if (offset != length) throw new IllegalStateException("Truncated data");
+            return result;
+        } catch (DataFormatException exception) {
+            throw new IllegalStateException(exception);
+        } finally {inflater.end();}
+    }
+
+    /** @param value the bundle for writing */
+    private void writeBundle(@NonNull Bundle value) {
+        writeVarint(value.size());
+        for (final String key : value.keySet()) {
+            writeKey(key);
+            writeValue(value.get(key));
+        }
+    }
+
+    /** @return the read bundle */
+    @NonNull
+    private Bundle readBundle() {
+        final int size = readVarint();
+        final Bundle result = new Bundle(size);
+        for (int i = 0; i < size; i++) readValue(result, mKeys.get(readVarint()));
+        return result;
+    }
+
+    /** @param key the key for writing */
+    private void writeKey(@NonNull String key) {
+        //noinspection ConstantConditions
+        Integer index = mIndices.get(key);
+        if (index == null) {
+            index = mKeys.size();
+            mKeys.add(key);
+            mIndices.put(key, index);
+        }
+        writeVarint(index);
+    }
+
+    /** @param value the value for writing */
+    @SuppressWarnings("unchecked")
+    private void writeValue(@Nullable Object value) {
+        if (value == null) writeVarint(TYPE_NULL);
+        else if (value instanceof String) {writeVarint(TYPE_STRING); writeString((String) value);}
+        else if (value instanceof Integer) {writeVarint(TYPE_INT); writeVarint(zigzag((Integer) value));}
+        else if (value instanceof Long) {writeVarint(TYPE_LONG); writeVarlong(zigzag((Long) value));}
+        else if (value instanceof Boolean) {writeVarint(TYPE_BOOLEAN); writeVarint((Boolean) value ? 1 : 0);}
+        else if (value instanceof Byte) {writeVarint(TYPE_BYTE); writeVarint(zigzag((Byte) value));}
+        else if (value instanceof Short) {writeVarint(TYPE_SHORT); writeVarint(zigzag((Short) value));}
+        else if (value instanceof Character) {writeVarint(TYPE_CHAR); writeVarint((Character) value);}
+        else if (value instanceof Float) {writeVarint(TYPE_FLOAT); writeFixed(Float.floatToIntBits((Float) value), 4);}
+        else if (value instanceof Double) {writeVarint(TYPE_DOUBLE); writeFixed(Double.doubleToLongBits((Double) value), 8);}
+        else if (value instanceof Bundle) {writeVarint(TYPE_BUNDLE); writeBundle((Bundle) value);}
+        else if (value instanceof byte[]) {writeVarint(TYPE_BYTES); writeBytes((byte[]) value);}
+        else if (value instanceof boolean[]) {
+            final boolean[] array = (boolean[]) value;
+            writeVarint(TYPE_BOOLEANS); writeVarint(array.length);
+            for (final boolean item : array) writeVarint(item ? 1 : 0);
+        } else if (value instanceof int[]) {
+            final int[] array = (int[]) value;
+            writeVarint(TYPE_INTS); writeVarint(array.length);
+            for (final int item : array) writeVarint(zigzag(item));
+        } else if (value instanceof long[]) {
+            final long[] array = (long[]) value;
+            writeVarint(TYPE_LONGS); writeVarint(array.length);
+            for (final long item : array) writeVarlong(zigzag(item));
+        } else if (value instanceof float[]) {
+            final float[] array = (float[]) value;
+            writeVarint(TYPE_FLOATS); writeVarint(array.length);
+            for (final float item : array) writeFixed(Float.floatToIntBits(item), 4);
+        } else if (value instanceof double[]) {
+            final double[] array = (double[]) value;
+            writeVarint(TYPE_DOUBLES); writeVarint(array.length);
+            for (final double item : array) writeFixed(Double.doubleToLongBits(item), 8);
+        } else if (value instanceof String[]) {
+            final String[] array = (String[]) value;
+            writeVarint(TYPE_STRINGS); writeVarint(array.length);
+            for (final String item : array) writeNullableString(item);
+        } else if (value instanceof ArrayList && isListOf((ArrayList<?>) value, Integer.class)) {
+            final ArrayList<Integer> list = (ArrayList<Integer>) value;
+            writeVarint(TYPE_INT_LIST); writeVarint(list.size());
+            for (final Integer item : list)
+                if (item == null) writeVarint(0); else {writeVarint(1); writeVarint(zigzag(item));}
+        } else if (value instanceof ArrayList && isListOf((ArrayList<?>) value, String.class)) {
+            final ArrayList<String> list = (ArrayList<String>) value;
+            writeVarint(TYPE_STRING_LIST); writeVarint(list.size());
+            for (final String item : list) writeNullableString(item);
+        } else throw new IllegalArgumentException("Unsupported: " + value.getClass());
+    }
+
+    /**
+     * @param bundle the target bundle
+     * @param key the value key
+     */
+    private void readValue(@NonNull Bundle bundle, @NonNull String key) {
+        final int type = readVarint(), size;
+        switch (type) {
+            case TYPE_NULL: bundle.putString(key, null); break;
+            case TYPE_STRING: bundle.putString(key, readString()); break;
+            case TYPE_INT: bundle.putInt(key, unzigzag(readVarint())); break;
+            case TYPE_LONG: bundle.putLong(key, unzigzag(readVarlong())); break;
+            case TYPE_BOOLEAN: bundle.putBoolean(key, readVarint() != 0); break;
+            case TYPE_BYTE: bundle.putByte(key, (byte) unzigzag(readVarint())); break;
+            case TYPE_SHORT: bundle.putShort(key, (short) unzigzag(readVarint())); break;
+            case TYPE_CHAR: bundle.putChar(key, (char) readVarint()); break;
+            case TYPE_FLOAT: bundle.putFloat(key, Float.intBitsToFloat((int) readFixed(4))); break;
+            case TYPE_DOUBLE: bundle.putDouble(key, Double.longBitsToDouble(readFixed(8))); break;
+            case TYPE_BUNDLE: bundle.putBundle(key, readBundle()); break;
+            case TYPE_BYTES: bundle.putByteArray(key, readBytes()); break;
+            case TYPE_BOOLEANS:
+                final boolean[] booleans = new boolean[readVarint()];
+                for (int i = 0; i < booleans.length; i++) booleans[i] = readVarint() != 0;
+                bundle.putBooleanArray(key, booleans); break;
+            case TYPE_INTS:
+                final int[] ints = new int[readVarint()];
+                for (int i = 0; i < ints.length; i++) ints[i] = unzigzag(readVarint());
+                bundle.putIntArray(key, ints); break;
+            case TYPE_LONGS:
+                final long[] longs = new long[readVarint()];
+                for (int i = 0; i < longs.length; i++) longs[i] = unzigzag(readVarlong());
+                bundle.putLongArray(key, longs); break;
+            case TYPE_FLOATS:
+                final float[] floats = new float[readVarint()];
+                for (int i = 0; i < floats.length; i++)
+                    floats[i] = Float.intBitsToFloat((int) readFixed(4));
+                bundle.putFloatArray(key, floats); break;
+            case TYPE_DOUBLES:
+                final double[] doubles = new double[readVarint()];
+                for (int i = 0; i < doubles.length; i++)
+                    doubles[i] = Double.longBitsToDouble(readFixed(8));
+                bundle.putDoubleArray(key, doubles); break;
+            case TYPE_STRINGS:
+                final String[] strings = new String[readVarint()];
+                for (int i = 0; i < strings.length; i++) strings[i] = readNullableString();
+                bundle.putStringArray(key, strings); break;
+            case TYPE_INT_LIST:
+                size = readVarint();
+                final ArrayList<Integer> integers = new ArrayList<>(size);
+                for (int i = 0; i < size; i++)
+                    integers.add(readVarint() == 0 ? null : unzigzag(readVarint()));
+                bundle.putIntegerArrayList(key, integers); break;
+            case TYPE_STRING_LIST:
+                size = readVarint();
+                final ArrayList<String> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) list.add(readNullableString());
+                bundle.putStringArrayList(key, list); break;
+            default: throw new IllegalStateException("Unknown type " + type);
+        }
+    }
+
+    /**
+     * @param list the list
+     * @param type the items type
+     * @return true if all non-null items are instances of the type
+     */
+    private static boolean isListOf(@NonNull ArrayList<?> list, @NonNull Class<?> type) {
+        final int size = list.size();
+        for (int i = 0; i < size; i++) {
+            final Object item = list.get(i);
+            if (item != null && item.getClass() != type) return false;
+        }
+        return true;
+    }
+
+    /** @param value the string for writing */
+    private void writeNullableString(@Nullable String value) {
+        if (value == null) writeVarint(0); else {writeVarint(1); writeString(value);}
+    }
+
+    /** @return the read string */
+    @Nullable
+    private String readNullableString() {return readVarint() == 0 ? null : readString();}
+
+    /** @param value the string for writing */
+    final void writeString(@NonNull String value) {writeBytes(value.getBytes(UTF_8));}
+
+    /** @return the read string */
+    @NonNull
+    final String readString() {
+        final int length = readVarint();
+        final String result = new String(mData, mPosition, length, UTF_8);
+        mPosition += length;
+        return result;
+    }
+
+    /** @param value the bytes for writing */
+    final void writeBytes(@NonNull byte[] value) {
+        writeVarint(value.length);
+        ensure(value.length);
+        System.arraycopy(value, 0, mData, mPosition, value.length);
+        mPosition += value.length;
+    }
+
+    /** @return the read bytes */
+    @NonNull
+    final byte[] readBytes() {
+        final int length = readVarint();
+        final byte[] result = Arrays.copyOfRange(mData, mPosition, mPosition + length);
+        mPosition += length;
+        return result;
+    }
+
+    /** @param value the unsigned value for writing */
+    final void writeVarint(int value) {
+        ensure(5);
+        while ((value & ~0x7F) != 0) {
+            mData[mPosition++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        mData[mPosition++] = (byte) value;
+    }
+
+    /** @return the read unsigned value */
+    final int readVarint() {
+        int result = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            final byte value = mData[mPosition++];
+            result |= (value & 0x7F) << shift;
+            if (value >= 0) return result;
+        }
+        throw new IllegalStateException("Malformed varint");
+    }
+
+    /** @param value the unsigned value for writing */
+    private void writeVarlong(long value) {
+        ensure(10);
+        while ((value & ~0x7FL) != 0) {
+            mData[mPosition++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        mData[mPosition++] = (byte) value;
+    }
+
+    /** @return the read unsigned value */
+    private long readVarlong() {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final byte value = mData[mPosition++];
+            result |= (long) (value & 0x7F) << shift;
+            if (value >= 0) return result;
+        }
+        throw new IllegalStateException("Malformed varint");
+    }
+
+    /**
+     * @param value the value for writing
+     * @param bytes the count of bytes
+     */
+    private void writeFixed(long value, int bytes) {
+        ensure(bytes);
+        for (int i = 0; i < bytes; i++, value >>>= 8) mData[mPosition++] = (byte) value;
+    }
+
+    /**
+     * @param bytes the count of bytes
+     * @return the read value
+     */
+    private long readFixed(int bytes) {
+        long result = 0;
+        for (int i = 0; i < bytes; i++) result |= (mData[mPosition++] & 0xFFL) << (i * 8);
+        return result;
+    }
+
+    /** @param count the count of bytes for writing */
+    private void ensure(int count) {
+        if (mPosition + count > mData.length) {
+            mData = Arrays.copyOf(mData, Math.max(mData.length * 2, mPosition + count));
+            mLimit = mData.length;
+        }
+    }
+
+    /** @return the zigzag-encoded value */
+    private static int zigzag(int value) {return (value << 1) ^ (value >> 31);}
+    /** @return the zigzag-encoded value */
+    private static long zigzag(long value) {return (value << 1) ^ (value >> 63);}
+    /** @return the zigzag-decoded value */
+    private static int unzigzag(int value) {return (value >>> 1) ^ -(value & 1);}
+    /** @return the zigzag-decoded value */
+    private static long unzigzag(long value) {return (value >>> 1) ^ -(value & 1);}
+}
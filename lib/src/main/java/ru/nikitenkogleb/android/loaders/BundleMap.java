@@ -31,14 +31,28 @@ package ru.nikitenkogleb.android.loaders;
 import android.os.Bundle;
 import android.os.Parcel;
 import android.os.Parcelable;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.util.Log;
 import android.util.SparseArray;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.UUID;
+
 import proguard.annotation.Keep;
 import proguard.annotation.KeepPublicProtectedClassMembers;
 
 
 /**
  * The parcelable map of bundles.
+ * <p>
+ * Parcels in the compact format: varint ids, the shared key dictionary and
+ * optional deflate compression. Bundles above the spill threshold are
+ * written to the app-private file. Restored entries are kept as raw slices
+ * and unparceled on first access.
  *
  * @author Nikitenko Gleb
  * @since 1.0, 23/06/2016
@@ -51,6 +65,35 @@ public class BundleMap extends SparseArray<Bundle> implements Parcelable {
     @SuppressWarnings("unused")
     public static final Creator CREATOR = new Creator();
 
+    /** The log cat tag. */
+    private static final String TAG = "BundleMap";
+
+    /** The compact format marker. */
+    private static final int FORMAT_COMPACT = 0xBD1E0001;
+
+    /** The entry kinds. */
+    private static final int
+            ENTRY_NULL = 0, ENTRY_CODEC = 1, ENTRY_PARCEL = 2, ENTRY_FILE = 3;
+
+    /** The spill files prefix. */
+    private static final String SPILL_PREFIX = "bundle-map-";
+    /** The lifetime of spill files not saved again, in millis. */
+    private static final long SPILL_LIFETIME = 24 * 60 * 60 * 1000L;
+
+    /** The spill directory. */
+    @Nullable private static volatile File sSpillDirectory = null;
+    /** The spill threshold, in bytes. */
+    private static volatile int sSpillThreshold = Integer.MAX_VALUE;
+    /** The compression threshold, in bytes. */
+    private static volatile int sCompressThreshold = 1024;
+
+    /** Not yet unparceled entries. */
+    @Nullable private SparseArray<Slice> mRaw = null;
+    /** The spill files owned by entries. */
+    @Nullable private SparseArray<Spill> mSpills = null;
+    /** The key dictionary of raw slices. */
+    @Nullable private BundleCodec mKeys = null;
+
     /** Constructs a new empty BundleMap */
     public BundleMap() {super(0);}
 
@@ -59,9 +102,108 @@ public class BundleMap extends SparseArray<Bundle> implements Parcelable {
      * @param source parcel in
      */
     public BundleMap(Parcel source) {
-        final int size = source.readInt();
-        for (int i = 0; i < size; i++)
-            put(source.readInt(), source.readBundle(getClass().getClassLoader()));
+        final int header = source.readInt();
+        if (header == FORMAT_COMPACT) {
+            final byte[] data = source.createByteArray();
+            if (data != null) readCompact(data);
+        } else
+            for (int i = 0; i < header; i++)
+                super.put(source.readInt(), source.readBundle(getClass().getClassLoader()));
+    }
+
+    /**
+     * Sets the directory for oversized bundles.
+     * <p>
+     * Should be configured before any state restoring, usually in
+     * {@link android.app.Application#onCreate()}. A spill file is owned by its entry
+     * and deleted when the entry is replaced, removed or spilled again. The orphaned files,
+     * of states never restored, are swept here once not saved again for a day.
+     *
+     * @param directory the app-private directory, or null for disable
+     * @param threshold the minimal size of spilled bundle, in bytes
+     */
+    public static void setSpillDirectory(@Nullable File directory, int threshold) {
+        sSpillDirectory = directory;
+        sSpillThreshold = threshold;
+        if (directory == null) return;
+        final File[] files = directory.listFiles();
+        if (files == null) return;
+        final long outdated = System.currentTimeMillis() - SPILL_LIFETIME;
+        for (final File file : files)
+            if (file.getName().startsWith(SPILL_PREFIX) && file.lastModified() < outdated)
+                //noinspection ResultOfMethodCallIgnored
+                file.delete();
+    }
+
+    /** @param threshold the minimal size of compressed data, in bytes */
+    public static void setCompressThreshold(int threshold) {sCompressThreshold = threshold;}
+
+    /** {@inheritDoc} */
+    @Override
+    public final Bundle get(int key) {return get(key, null);}
+
+    /** {@inheritDoc} */
+    @Override
+    public final Bundle get(int key, Bundle valueIfKeyNotFound) {
+        final int index = indexOfKey(key);
+        return index < 0 ? valueIfKeyNotFound : valueAt(index);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final Bundle valueAt(int index) {
+        final int key = keyAt(index);
+        final Slice slice = mRaw != null ? mRaw.get(key) : null;
+        final Spill spill = mSpills != null ? mSpills.get(key) : null;
+        if (slice != null) {
+            final Bundle result = slice.kind == ENTRY_PARCEL ?
+                    BundleCodec.unmarshall(slice.data) :
+                    //noinspection ConstantConditions
+                    mKeys.decode(slice.data);
+            super.setValueAt(index, result);
+            mRaw.delete(key);
+            return result;
+        }
+        if (spill != null && !spill.loaded) {
+            spill.value = readSpill(spill.token);
+            spill.loaded = true;
+            super.setValueAt(index, spill.value);
+        }
+        return super.valueAt(index);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void setValueAt(int index, Bundle value)
+    {unspill(keyAt(index), value); super.setValueAt(index, value);}
+
+    /** {@inheritDoc} */
+    @Override
+    public final void put(int key, Bundle value) {unspill(key, value); super.put(key, value);}
+
+    /** {@inheritDoc} */
+    @Override
+    public final void append(int key, Bundle value) {unspill(key, value); super.append(key, value);}
+
+    /** {@inheritDoc} */
+    @Override
+    public final void delete(int key) {unspill(key, null); super.delete(key);}
+
+    /** {@inheritDoc} */
+    @Override
+    public final void remove(int key) {unspill(key, null); super.remove(key);}
+
+    /** {@inheritDoc} */
+    @Override
+    public final void removeAt(int index) {unspill(keyAt(index), null); super.removeAt(index);}
+
+    /** {@inheritDoc} */
+    @Override
+    public final void clear() {
+        if (mSpills != null)
+            for (int i = 0; i < mSpills.size(); i++) deleteSpill(mSpills.valueAt(i).token);
+        mRaw = null; mSpills = null; mKeys = null;
+        super.clear();
     }
 
     /**
@@ -83,10 +225,215 @@ public class BundleMap extends SparseArray<Bundle> implements Parcelable {
      */
     @Override
     public final void writeToParcel(Parcel dest, int flags) {
-        dest.writeInt(size());
-        for (int i = 0; i < size(); i++) {
-            dest.writeInt(keyAt(i));
-            dest.writeBundle(valueAt(i));
+        byte[] data;
+        try {data = writeCompact();}
+        catch (RuntimeException exception) {Log.w(TAG, exception); data = null;}
+        if (data != null) {
+            dest.writeInt(FORMAT_COMPACT);
+            dest.writeByteArray(data);
+        } else {
+            dest.writeInt(size());
+            for (int i = 0; i < size(); i++) {
+                dest.writeInt(keyAt(i));
+                dest.writeBundle(valueAt(i));
+            }
+        }
+    }
+
+    /**
+     * @return the compact data
+     *
+     * @throws RuntimeException if some bundle can't be marshalled
+     */
+    @NonNull
+    private byte[] writeCompact() {
+        final BundleCodec keys = new BundleCodec(), entries = new BundleCodec();
+        if (mKeys != null) keys.seed(mKeys);
+        final File directory = sSpillDirectory; final int threshold = sSpillThreshold;
+        final int size = size();
+        entries.writeVarint(size);
+        for (int i = 0; i < size; i++) {
+            final int key = keyAt(i);
+            entries.writeVarint(key);
+            final Slice slice = mRaw != null ? mRaw.get(key) : null;
+            if (slice != null) {
+                entries.writeVarint(slice.kind);
+                entries.writeBytes(slice.data); continue;
+            }
+            final Spill spill = mSpills != null ? mSpills.get(key) : null;
+            final Bundle value = super.valueAt(i);
+            // The same instance is kept in its own file
+            if (spill != null && (!spill.loaded || spill.value == value)) {
+                touchSpill(spill.token);
+                entries.writeVarint(ENTRY_FILE); entries.writeString(spill.token); continue;
+            }
+            if (value == null) {entries.writeVarint(ENTRY_NULL); continue;}
+            byte[] bytes; int kind = ENTRY_CODEC;
+            try {bytes = keys.encode(value);}
+            catch (IllegalArgumentException exception)
+            {bytes = BundleCodec.marshall(value); kind = ENTRY_PARCEL;}
+            final String token = directory != null && bytes.length > threshold ?
+                    writeSpill(directory, value) : null;
+            if (spill != null) {deleteSpill(spill.token); mSpills.delete(key);}
+            if (token != null) {
+                if (mSpills == null) mSpills = new SparseArray<>();
+                mSpills.put(key, new Spill(token, value));
+                entries.writeVarint(ENTRY_FILE); entries.writeString(token); continue;
+            }
+            entries.writeVarint(kind);
+            entries.writeBytes(bytes);
+        }
+
+        final BundleCodec body = new BundleCodec();
+        body.writeKeys(keys);
+        body.writeBytes(entries.toByteArray());
+        return BundleCodec.frame(body.toByteArray(), sCompressThreshold);
+    }
+
+    /** @param data the compact data */
+    private void readCompact(@NonNull byte[] data) {
+        final byte[] plain = BundleCodec.unframe(data);
+        final BundleCodec body = new BundleCodec(plain, 0, plain.length);
+        body.readKeys();
+        mKeys = body;
+        final byte[] bytes = body.readBytes();
+        final BundleCodec entries = new BundleCodec(bytes, 0, bytes.length);
+        final int size = entries.readVarint();
+        for (int i = 0; i < size; i++) {
+            final int key = entries.readVarint(), kind = entries.readVarint();
+            switch (kind) {
+                case ENTRY_NULL: super.append(key, null); break;
+                case ENTRY_CODEC: case ENTRY_PARCEL:
+                    if (mRaw == null) mRaw = new SparseArray<>();
+                    mRaw.put(key, new Slice(kind, entries.readBytes()));
+                    super.append(key, null); break;
+                case ENTRY_FILE:
+                    if (mSpills == null) mSpills = new SparseArray<>();
+                    mSpills.put(key, new Spill(entries.readString(), null));
+                    super.append(key, null); break;
+                default: throw new IllegalStateException("Unknown entry " + kind);
+            }
+        }
+    }
+
+    /**
+     * Drops the raw slice and the spill file of replaced or removed entry.
+     *
+     * @param key the entry key
+     * @param value the new value, or null for removal
+     */
+    private void unspill(int key, @Nullable Bundle value) {
+        if (mRaw != null) mRaw.delete(key);
+        final Spill spill = mSpills != null ? mSpills.get(key) : null;
+        if (spill == null || value != null && spill.loaded && spill.value == value) return;
+        deleteSpill(spill.token);
+        mSpills.delete(key);
+    }
+
+    /**
+     * @param directory the spill directory
+     * @param value the bundle for spilling
+     * @return the spill token, or null if failed
+     */
+    @Nullable
+    private static String writeSpill(@NonNull File directory, @NonNull Bundle value) {
+        final String token = SPILL_PREFIX + UUID.randomUUID().toString();
+        final byte[] data = BundleCodec.pack(value);
+        FileOutputStream stream = null;
+        try {
+            stream = new FileOutputStream(new File(directory, token));
+            stream.write(data);
+            return token;
+        } catch (IOException exception) {
+            Log.w(TAG, exception); return null;
+        } finally {
+            if (stream != null) try {stream.close();}
+            catch (IOException exception) {Log.w(TAG, exception);}
+        }
+    }
+
+    /** @param token the spill token, saved again, so not swept as orphaned */
+    private static void touchSpill(@NonNull String token) {
+        final File directory = sSpillDirectory;
+        if (directory != null &&
+                !new File(directory, token).setLastModified(System.currentTimeMillis()))
+            Log.w(TAG, "Can't touch " + token);
+    }
+
+    /** @param token the spill token */
+    private static void deleteSpill(@NonNull String token) {
+        final File directory = sSpillDirectory;
+        if (directory != null && !new File(directory, token).delete())
+            Log.w(TAG, "Can't delete " + token);
+    }
+
+    /**
+     * @param token the spill token
+     * @return the spilled bundle, or {@link Bundle#EMPTY} if lost
+     */
+    @NonNull
+    private static Bundle readSpill(@NonNull String token) {
+        final File directory = sSpillDirectory;
+        if (directory == null) {Log.e(TAG, "Spill directory isn't set", null); return Bundle.EMPTY;}
+        RandomAccessFile file = null;
+        try {
+            file = new RandomAccessFile(new File(directory, token), "r");
+            final byte[] data = new byte[(int) file.length()];
+            file.readFully(data);
+            return BundleCodec.unpack(data);
+        } catch (IOException | RuntimeException exception) {
+            Log.e(TAG, "Spilled bundle is lost: " + token, exception); return Bundle.EMPTY;
+        } finally {
+            if (file != null) try {file.close();}
+            catch (IOException exception) {Log.w(TAG, exception);}
+        }
+    }
+
+    /**
+     * The raw slice of parceled bundle.
+     *
+     * @author Nikitenko Gleb
+     * @since 1.0, 18/10/2026
+     */
+    private static final class Slice {
+
+        /** The entry kind. */
+        final int kind;
+        /** The encoded bytes. */
+        @NonNull final byte[] data;
+
+        /**
+         * Constructs a new {@link Slice}.
+         *
+         * @param kind the entry kind
+         * @param data the encoded bytes
+         */
+        Slice(int kind, @NonNull byte[] data) {this.kind = kind; this.data = data;}
+    }
+
+    /**
+     * The spill file of entry.
+     *
+     * @author Nikitenko Gleb
+     * @since 1.0, 18/10/2026
+     */
+    private static final class Spill {
+
+        /** The spill token. */
+        @NonNull final String token;
+        /** The spilled bundle, when loaded or written. */
+        @Nullable Bundle value;
+        /** The file was read or written by this map. */
+        boolean loaded;
+
+        /**
+         * Constructs a new {@link Spill}.
+         *
+         * @param token the spill token
+         * @param value the written bundle, or null for not read yet
+         */
+        Spill(@NonNull String token, @Nullable Bundle value) {
+            this.token = token; this.value = value; loaded = value != null;
         }
     }
 
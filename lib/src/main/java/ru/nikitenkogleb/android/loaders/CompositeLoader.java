@@ -0,0 +1,236 @@
+/*
+ * 	CompositeLoader.java
+ * 	app
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package ru.nikitenkogleb.android.loaders;
+
+import android.content.Context;
+import android.os.CancellationSignal;
+import android.os.OperationCanceledException;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.WorkerThread;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import proguard.annotation.Keep;
+import proguard.annotation.KeepPublicProtectedClassMembers;
+
+/**
+ * The One-Shot Loader of parallel parts.
+ * <p>
+ * Runs the parts on the executor in parallel, combines their results and delivers once.
+ * The loading thread runs each part not yet taken by the executor by itself, so a
+ * saturated executor never deadlocks the load. Each part has its own signal, cancelled
+ * with the load signal or by failure of any other part.
+ *
+ * @param <T> the type of combined result
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+@Keep@KeepPublicProtectedClassMembers
+@SuppressWarnings({"WeakerAccess", "unused"})
+public abstract class CompositeLoader<T> extends OneShotLoader<T> {
+
+    /** The parts. */
+    @NonNull private final Part[] mParts;
+
+    /**
+     * Constructs a new {@link CompositeLoader}, with sequential parts.
+     *
+     * @param context the activity-context
+     * @param parts the parts
+     */
+    public CompositeLoader(@NonNull Context context, @NonNull Part... parts) {
+        super(context);
+        mParts = checkParts(parts);
+    }
+
+    /**
+     * Constructs a new {@link CompositeLoader}.
+     *
+     * @param context the activity-context
+     * @param executor the runtime executor
+     * @param parts the parts
+     */
+    public CompositeLoader(@NonNull Context context, @NonNull Executor executor,
+            @NonNull Part... parts) {
+        super(context, executor);
+        mParts = checkParts(parts);
+    }
+
+    /** {@inheritDoc} */
+    @Nullable @Override
+    protected final T loadInBackground(@NonNull CancellationSignal cancellationSignal) {
+        final int count = mParts.length;
+        final Task[] tasks = new Task[count];
+        final CountDownLatch latch = new CountDownLatch(count);
+        for (int i = 0; i < count; i++) tasks[i] = new Task(mParts[i], tasks, latch);
+        cancellationSignal.setOnCancelListener(new CancellationSignal.OnCancelListener() {
+            /** {@inheritDoc} */
+            @Override
+            public final void onCancel() {Task.cancel(tasks);}
+        });
+
+        try {
+            final Executor executor = getExecutor();
+            if (executor != null) {
+                for (int i = 1; i < count; i++) {
+                    if (executor instanceof PriorityExecutor) {
+                        ((PriorityExecutor) executor).execute(tasks[i], getPriority());
+                    } else {
+                        executor.execute(tasks[i]);
+                    }
+                }
+            }
+            for (final Task task : tasks) task.run();
+            try {
+                latch.await();
+            } catch (InterruptedException exception) {
+                Task.cancel(tasks);
+                Thread.currentThread().interrupt();
+                throw new OperationCanceledException();
+            }
+        } finally {
+            cancellationSignal.setOnCancelListener(null);
+        }
+
+        cancellationSignal.throwIfCanceled();
+        // The first failure cancels others, so report it before their cancellations
+        Throwable failure = null;
+        final Object[] results = new Object[count];
+        for (int i = 0; i < count; i++) {
+            final Throwable partFailure = tasks[i].mFailure;
+            if (failure == null || failure instanceof OperationCanceledException)
+                if (partFailure != null) failure = partFailure;
+            results[i] = tasks[i].mResult;
+        }
+        if (failure instanceof RuntimeException) throw (RuntimeException) failure;
+        if (failure instanceof Error) throw (Error) failure;
+        return combine(results);
+    }
+
+    /**
+     * Combines the results of parts, on the loading thread.
+     *
+     * @param results the results of parts, in order
+     * @return the combined result
+     */
+    @WorkerThread @Nullable
+    protected abstract T combine(@NonNull Object[] results);
+
+    /**
+     * @param parts the parts
+     * @return the checked parts
+     */
+    @NonNull
+    private static Part[] checkParts(@NonNull Part[] parts) {
+        if (parts.length == 0) throw new IllegalArgumentException("No parts");
+        for (final Part part : parts)
+            if (part == null) throw new NullPointerException("Null part");
+        return parts.clone();
+    }
+
+    /**
+     * The part of composite load.
+     *
+     * @author Nikitenko Gleb
+     * @since 1.0, 18/10/2026
+     */
+    @Keep@KeepPublicProtectedClassMembers
+    public static abstract class Part {
+
+        /**
+         * Loads the part, on the loading or executor thread.
+         *
+         * @param cancellationSignal the part cancellation signal
+         * @return the part result
+         */
+        @WorkerThread @Nullable
+        protected abstract Object load(@NonNull CancellationSignal cancellationSignal);
+    }
+
+    /**
+     * The claimable run of part.
+     *
+     * @author Nikitenko Gleb
+     * @since 1.0, 18/10/2026
+     */
+    private static final class Task implements Runnable {
+
+        /** The part. */
+        @NonNull private final Part mPart;
+        /** All tasks of the load. */
+        @NonNull private final Task[] mTasks;
+        /** The completion latch. */
+        @NonNull private final CountDownLatch mLatch;
+
+        /** The part signal. */
+        private final CancellationSignal mSignal = new CancellationSignal();
+        /** The task is claimed by some thread. */
+        private final AtomicBoolean mClaimed = new AtomicBoolean();
+
+        /** The part result. */
+        @Nullable private volatile Object mResult = null;
+        /** The part failure. */
+        @Nullable private volatile Throwable mFailure = null;
+
+        /**
+         * Constructs a new {@link Task}.
+         *
+         * @param part the part
+         * @param tasks all tasks of the load
+         * @param latch the completion latch
+         */
+        Task(@NonNull Part part, @NonNull Task[] tasks, @NonNull CountDownLatch latch) {
+            mPart = part; mTasks = tasks; mLatch = latch;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public final void run() {
+            if (!mClaimed.compareAndSet(false, true)) return;
+            try {
+                mSignal.throwIfCanceled();
+                mResult = mPart.load(mSignal);
+            } catch (RuntimeException | Error exception) {
+                mFailure = exception;
+                cancel(mTasks);
+            } finally {
+                mLatch.countDown();
+            }
+        }
+
+        /** @param tasks the tasks for cancel */
+        static void cancel(@NonNull Task[] tasks) {
+            for (final Task task : tasks) task.mSignal.cancel();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * 	CursorPages.java
+ * 	app
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package ru.nikitenkogleb.android.loaders;
+
+import android.database.Cursor;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.util.SparseArray;
+
+import proguard.annotation.Keep;
+import proguard.annotation.KeepPublicProtectedClassMembers;
+
+/**
+ * The loaded pages of a query result.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+@Keep@KeepPublicProtectedClassMembers
+@SuppressWarnings({"WeakerAccess", "unused"})
+public final class CursorPages {
+
+    /** The page size, in rows. */
+    final int pageSize;
+    /** The content generation. */
+    final int generation;
+    /** The loaded pages by index. */
+    @NonNull final SparseArray<Cursor> pages;
+    /** The exact count of rows, or -1 if unknown yet. */
+    final int count;
+
+    /**
+     * Constructs a new {@link CursorPages}.
+     *
+     * @param pageSize the page size
+     * @param generation the content generation
+     * @param pages the loaded pages
+     * @param count the exact count of rows, or -1 if unknown yet
+     */
+    CursorPages(int pageSize, int generation, @NonNull SparseArray<Cursor> pages, int count) {
+        this.pageSize = pageSize; this.generation = generation; this.pages = pages; this.count = count;
+    }
+
+    /** @return the page size, in rows */
+    public final int getPageSize() {return pageSize;}
+
+    /** @return true if the last page was reached, so the count is exact */
+    public final boolean isComplete() {return count != -1;}
+
+    /** @return the count of rows, or the lower bound of it while not complete */
+    public final int getCount() {
+        if (count != -1) return count;
+        final int size = pages.size();
+        return size != 0 ? (pages.keyAt(size - 1) + 1) * pageSize : 0;
+    }
+
+    /**
+     * @param position the row position
+     * @return true if the page of row is loaded
+     */
+    public final boolean isLoaded(int position) {
+        return pages.get(position / pageSize) != null;
+    }
+
+    /**
+     * @param position the row position
+     * @return the page cursor, moved to the row, or null if the page isn't loaded
+     */
+    @Nullable
+    public final Cursor moveTo(int position) {
+        final Cursor cursor = pages.get(position / pageSize);
+        return cursor != null && cursor.moveToPosition(position % pageSize) ? cursor : null;
+    }
+
+    /**
+     * Closes the pages, that are not shared with the given ones.
+     *
+     * @param current the current pages, or null for close all
+     */
+    final void closeExcept(@Nullable CursorPages current) {
+        for (int i = 0; i < pages.size(); i++) {
+            final Cursor cursor = pages.valueAt(i);
+            if (current == null || current.pages.get(pages.keyAt(i)) != cursor) cursor.close();
+        }
+    }
+}
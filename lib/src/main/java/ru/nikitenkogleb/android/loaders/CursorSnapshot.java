@@ -0,0 +1,306 @@
+/*
+ * 	CursorSnapshot.java
+ * 	app
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package ru.nikitenkogleb.android.loaders;
+
+import android.database.AbstractCursor;
+import android.database.Cursor;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+import proguard.annotation.Keep;
+import proguard.annotation.KeepPublicProtectedClassMembers;
+
+/**
+ * The immutable in-memory copy of a query result.
+ * <p>
+ * Keeps each column in a primitive array of its type: long[] for integers, double[] for
+ * floats, interned strings and blobs. Columns of mixed types are kept boxed. So the snapshot
+ * holds no native memory and never refills a window on the main thread.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+@Keep@KeepPublicProtectedClassMembers
+@SuppressWarnings({"WeakerAccess", "unused"})
+public final class CursorSnapshot extends AbstractCursor {
+
+    /** The mixed column type. */
+    private static final int FIELD_TYPE_MIXED = -1;
+
+    /** The column names. */
+    @NonNull private final String[] mColumns;
+    /** The column types. */
+    @NonNull private final int[] mTypes;
+    /** The column values. */
+    @NonNull private final Object[] mValues;
+    /** The null flags of columns. */
+    @NonNull private final boolean[][] mNulls;
+    /** The count of rows. */
+    private final int mCount;
+
+    /**
+     * Constructs a new {@link CursorSnapshot}.
+     *
+     * @param columns the column names
+     * @param types the column types
+     * @param values the column values
+     * @param nulls the null flags of columns
+     * @param count the count of rows
+     */
+    private CursorSnapshot(@NonNull String[] columns, @NonNull int[] types,
+            @NonNull Object[] values, @NonNull boolean[][] nulls, int count) {
+        mColumns = columns; mTypes = types; mValues = values; mNulls = nulls; mCount = count;
+    }
+
+    /**
+     * Copies all rows of the cursor, without closing it.
+     *
+     * @param cursor the source cursor
+     * @return the snapshot
+     */
+    @NonNull
+    public static CursorSnapshot of(@NonNull Cursor cursor) {
+        final String[] columns = cursor.getColumnNames();
+        final int count = cursor.getCount(), width = columns.length;
+        final int[] types = new int[width];
+        final Object[] values = new Object[width];
+        final boolean[][] nulls = new boolean[width][count];
+        final HashMap<String, String> strings = new HashMap<>();
+
+        for (int row = 0; cursor.moveToPosition(row); row++)
+            for (int column = 0; column < width; column++) {
+                final int type = cursor.getType(column);
+                if (type == FIELD_TYPE_NULL) {nulls[column][row] = true; continue;}
+                if (types[column] == FIELD_TYPE_NULL) {
+                    types[column] = type; values[column] = allocate(type, count);
+                } else if (types[column] != type && types[column] != FIELD_TYPE_MIXED) {
+                    values[column] = box(types[column], values[column], nulls[column]);
+                    types[column] = FIELD_TYPE_MIXED;
+                }
+                final Object value = values[column];
+                switch (types[column]) {
+                    case FIELD_TYPE_INTEGER: ((long[]) value)[row] = cursor.getLong(column); break;
+                    case FIELD_TYPE_FLOAT: ((double[]) value)[row] = cursor.getDouble(column); break;
+                    case FIELD_TYPE_STRING:
+                        ((String[]) value)[row] = intern(strings, cursor.getString(column)); break;
+                    case FIELD_TYPE_BLOB: ((byte[][]) value)[row] = cursor.getBlob(column); break;
+                    default: ((Object[]) value)[row] = read(cursor, column, type, strings);
+                }
+            }
+
+        return new CursorSnapshot(columns, types, values, nulls, count);
+    }
+
+    /**
+     * @param type the column type
+     * @param count the count of rows
+     *
+     * @return the column array
+     */
+    @NonNull
+    private static Object allocate(int type, int count) {
+        switch (type) {
+            case FIELD_TYPE_INTEGER: return new long[count];
+            case FIELD_TYPE_FLOAT: return new double[count];
+            case FIELD_TYPE_STRING: return new String[count];
+            default: return new byte[count][];
+        }
+    }
+
+    /**
+     * @param type the column type
+     * @param values the column array
+     * @param nulls the null flags of column
+     *
+     * @return the boxed column array
+     */
+    @NonNull
+    private static Object[] box(int type, @NonNull Object values, @NonNull boolean[] nulls) {
+        final Object[] result = new Object[nulls.length];
+        for (int row = 0; row < result.length; row++) {
+            if (nulls[row]) continue;
+            switch (type) {
+                case FIELD_TYPE_INTEGER: result[row] = ((long[]) values)[row]; break;
+                case FIELD_TYPE_FLOAT: result[row] = ((double[]) values)[row]; break;
+                default: result[row] = ((Object[]) values)[row];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param cursor the source cursor
+     * @param column the column index
+     * @param type the field type
+     * @param strings the interned strings
+     *
+     * @return the boxed value
+     */
+    @Nullable
+    private static Object read(@NonNull Cursor cursor, int column, int type,
+            @NonNull HashMap<String, String> strings) {
+        switch (type) {
+            case FIELD_TYPE_INTEGER: return cursor.getLong(column);
+            case FIELD_TYPE_FLOAT: return cursor.getDouble(column);
+            case FIELD_TYPE_STRING: return intern(strings, cursor.getString(column));
+            default: return cursor.getBlob(column);
+        }
+    }
+
+    /**
+     * @param strings the interned strings
+     * @param value the string value
+     *
+     * @return the interned string
+     */
+    @Nullable
+    private static String intern(@NonNull HashMap<String, String> strings, @Nullable String value) {
+        if (value == null) return null;
+        final String result = strings.get(value);
+        if (result != null) return result;
+        strings.put(value, value);
+        return value;
+    }
+
+    /** @return the value of current row */
+    @Nullable
+    private Object get(int column) {
+        checkPosition();
+        if (mNulls[column][mPos]) return null;
+        final Object values = mValues[column];
+        switch (mTypes[column]) {
+            case FIELD_TYPE_INTEGER: return ((long[]) values)[mPos];
+            case FIELD_TYPE_FLOAT: return ((double[]) values)[mPos];
+            default: return ((Object[]) values)[mPos];
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final int getCount() {return mCount;}
+
+    /** {@inheritDoc} */
+    @Override
+    public final String[] getColumnNames() {return mColumns;}
+
+    /** {@inheritDoc} */
+    @Override
+    public final int getType(int column) {
+        checkPosition();
+        if (mNulls[column][mPos]) return FIELD_TYPE_NULL;
+        final int type = mTypes[column];
+        if (type != FIELD_TYPE_MIXED) return type;
+        final Object value = get(column);
+        return value instanceof Long ? FIELD_TYPE_INTEGER : value instanceof Double ?
+                FIELD_TYPE_FLOAT : value instanceof String ? FIELD_TYPE_STRING : FIELD_TYPE_BLOB;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final boolean isNull(int column) {
+        checkPosition();
+        return mNulls[column][mPos];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final String getString(int column) {
+        final Object value = get(column);
+        return value == null || value instanceof String ? (String) value :
+                value instanceof byte[] ? new String((byte[]) value) : value.toString();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final byte[] getBlob(int column) {
+        final Object value = get(column);
+        return value == null || value instanceof byte[] ? (byte[]) value :
+                getString(column).getBytes();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final long getLong(int column) {
+        if (mTypes[column] == FIELD_TYPE_INTEGER) {
+            checkPosition();
+            return ((long[]) mValues[column])[mPos];
+        }
+        final Object value = get(column);
+        if (value instanceof Number) return ((Number) value).longValue();
+        try {
+            return value instanceof String ? Long.parseLong((String) value) : 0L;
+        } catch (NumberFormatException exception) {
+            return (long) getDouble(column);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final double getDouble(int column) {
+        if (mTypes[column] == FIELD_TYPE_FLOAT) {
+            checkPosition();
+            return ((double[]) mValues[column])[mPos];
+        }
+        final Object value = get(column);
+        if (value instanceof Number) return ((Number) value).doubleValue();
+        try {
+            return value instanceof String ? Double.parseDouble((String) value) : 0.0;
+        } catch (NumberFormatException exception) {
+            return 0.0;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final short getShort(int column) {return (short) getLong(column);}
+
+    /** {@inheritDoc} */
+    @Override
+    public final int getInt(int column) {return (int) getLong(column);}
+
+    /** {@inheritDoc} */
+    @Override
+    public final float getFloat(int column) {return (float) getDouble(column);}
+
+    /**
+     * @param cursor other cursor
+     * @return true if the cursor is a snapshot of the same content
+     */
+    public final boolean contentEquals(@Nullable Cursor cursor) {
+        if (!(cursor instanceof CursorSnapshot)) return false;
+        final CursorSnapshot snapshot = (CursorSnapshot) cursor;
+        return mCount == snapshot.mCount && Arrays.equals(mColumns, snapshot.mColumns) &&
+                Arrays.equals(mTypes, snapshot.mTypes) &&
+                Arrays.deepEquals(mNulls, snapshot.mNulls) &&
+                Arrays.deepEquals(mValues, snapshot.mValues);
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * 	Diff.java
+ * 	app
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package ru.nikitenkogleb.android.loaders;
+
+import android.os.CancellationSignal;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import proguard.annotation.Keep;
+import proguard.annotation.KeepPublicProtectedClassMembers;
+
+/**
+ * The keyed difference between two lists.
+ * <p>
+ * Items are matched by key. The unmatched old items are removed, the unmatched new items are
+ * inserted, the matched items with different content are changed. The matched items out of
+ * the longest sequence that kept relative order are moved.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+@Keep@KeepPublicProtectedClassMembers
+@SuppressWarnings({"WeakerAccess", "unused"})
+public final class Diff {
+
+    /** The empty array. */
+    private static final int[] EMPTY = new int[0];
+    /** The cancellation check period, in items. */
+    private static final int CHECK_PERIOD = 256;
+
+    /** The removed old positions. */
+    @NonNull private final int[] mRemoved;
+    /** The inserted new positions. */
+    @NonNull private final int[] mInserted;
+    /** The old positions of moved items. */
+    @NonNull private final int[] mMovedFrom;
+    /** The new positions of moved items. */
+    @NonNull private final int[] mMovedTo;
+    /** The new positions of changed items. */
+    @NonNull private final int[] mChanged;
+
+    /**
+     * Constructs a new {@link Diff}.
+     *
+     * @param removed the removed old positions
+     * @param inserted the inserted new positions
+     * @param movedFrom the old positions of moved items
+     * @param movedTo the new positions of moved items
+     * @param changed the new positions of changed items
+     */
+    private Diff(@NonNull int[] removed, @NonNull int[] inserted,
+            @NonNull int[] movedFrom, @NonNull int[] movedTo, @NonNull int[] changed) {
+        mRemoved = removed; mInserted = inserted;
+        mMovedFrom = movedFrom; mMovedTo = movedTo; mChanged = changed;
+    }
+
+    /**
+     * Computes the difference.
+     *
+     * @param oldItems the previous items, or null when nothing was before
+     * @param newItems the new items
+     * @param callback the items callback
+     * @param signal the cancellation signal
+     *
+     * @return the difference
+     */
+    @NonNull
+    public static <E> Diff compute(@Nullable List<E> oldItems, @NonNull List<E> newItems,
+            @NonNull Callback<E> callback, @NonNull CancellationSignal signal) {
+        final int newSize = newItems.size();
+        if (oldItems == null || oldItems.isEmpty()) {
+            final int[] inserted = new int[newSize];
+            for (int i = 0; i < newSize; i++) inserted[i] = i;
+            return new Diff(EMPTY, inserted, EMPTY, EMPTY, EMPTY);
+        }
+
+        final int oldSize = oldItems.size();
+        final HashMap<Object, Integer> positions = new HashMap<>(oldSize * 2);
+        for (int i = 0; i < oldSize; i++) {
+            if (i % CHECK_PERIOD == 0) signal.throwIfCanceled();
+            positions.put(callback.getItemKey(oldItems.get(i)), i);
+        }
+
+        final boolean[] matched = new boolean[oldSize];
+        final int[] sources = new int[newSize];
+        final int[] inserted = new int[newSize];
+        final int[] changed = new int[newSize];
+        int insertedCount = 0, changedCount = 0, matchedCount = 0;
+
+        for (int i = 0; i < newSize; i++) {
+            if (i % CHECK_PERIOD == 0) signal.throwIfCanceled();
+            final E item = newItems.get(i);
+            final Integer position = positions.remove(callback.getItemKey(item));
+            if (position == null || matched[position]) {
+                inserted[insertedCount++] = i; sources[i] = -1;
+            } else {
+                matched[position] = true; sources[i] = position; matchedCount++;
+                if (!callback.areContentsSame(oldItems.get(position), item))
+                    changed[changedCount++] = i;
+            }
+        }
+
+        final int[] removed = new int[oldSize - matchedCount];
+        for (int i = 0, j = 0; i < oldSize; i++) if (!matched[i]) removed[j++] = i;
+
+        final boolean[] stay = stays(sources);
+        final int[] movedFrom = new int[matchedCount], movedTo = new int[matchedCount];
+        int movedCount = 0;
+        for (int i = 0; i < newSize; i++)
+            if (sources[i] != -1 && !stay[i]) {
+                movedFrom[movedCount] = sources[i]; movedTo[movedCount++] = i;
+            }
+
+        return new Diff(removed, Arrays.copyOf(inserted, insertedCount),
+                Arrays.copyOf(movedFrom, movedCount), Arrays.copyOf(movedTo, movedCount),
+                Arrays.copyOf(changed, changedCount));
+    }
+
+    /**
+     * Finds the longest increasing subsequence of old positions.
+     *
+     * @param sources the old positions by new ones, -1 for inserted
+     * @return the flags of new positions, which kept their relative order
+     */
+    @NonNull
+    private static boolean[] stays(@NonNull int[] sources) {
+        final int size = sources.length;
+        final int[] tails = new int[size], previous = new int[size];
+        int length = 0;
+        for (int i = 0; i < size; i++) {
+            if (sources[i] == -1) continue;
+            int low = 0, high = length;
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                if (sources[tails[middle]] < sources[i]) low = middle + 1; else high = middle;
+            }
+            previous[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            if (low == length) length++;
+        }
+        final boolean[] result = new boolean[size];
+        for (int i = length > 0 ? tails[length - 1] : -1; i != -1; i = previous[i])
+            result[i] = true;
+        return result;
+    }
+
+    /** @return true if nothing changed */
+    public final boolean isEmpty() {
+        return mRemoved.length == 0 && mInserted.length == 0 &&
+                mMovedFrom.length == 0 && mChanged.length == 0;
+    }
+
+    /** @return the removed old positions, ascending */
+    @NonNull
+    public final int[] getRemoved() {return mRemoved.clone();}
+
+    /** @return the inserted new positions, ascending */
+    @NonNull
+    public final int[] getInserted() {return mInserted.clone();}
+
+    /** @return the old positions of moved items, by new positions ascending */
+    @NonNull
+    public final int[] getMovedFrom() {return mMovedFrom.clone();}
+
+    /** @return the new positions of moved items, ascending */
+    @NonNull
+    public final int[] getMovedTo() {return mMovedTo.clone();}
+
+    /** @return the new positions of changed items, ascending */
+    @NonNull
+    public final int[] getChanged() {return mChanged.clone();}
+
+    /**
+     * The items callback.
+     *
+     * @author Nikitenko Gleb
+     * @since 1.0, 18/10/2026
+     */
+    public interface Callback<E> {
+
+        /**
+         * @param item the list item
+         * @return the stable identity of item
+         */
+        @NonNull
+        Object getItemKey(@NonNull E item);
+
+        /**
+         * @param oldItem the previous item
+         * @param newItem the new item with the same key
+         *
+         * @return true if the item is not changed
+         */
+        boolean areContentsSame(@NonNull E oldItem, @NonNull E newItem);
+    }
+}
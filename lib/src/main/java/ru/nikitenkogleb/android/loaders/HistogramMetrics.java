@@ -0,0 +1,167 @@
+/*
+ * 	HistogramMetrics.java
+ * 	app
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package ru.nikitenkogleb.android.loaders;
+
+import android.support.annotation.NonNull;
+import android.support.v4.content.Loader;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import proguard.annotation.Keep;
+import proguard.annotation.KeepPublicProtectedClassMembers;
+
+/**
+ * The {@link LoaderMetrics} with latency histograms per loader class and id.
+ * <p>
+ * Also counts the churn: background time wasted by cancelled loads
+ * and released results, to watch loaders under configuration changes.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+@Keep@KeepPublicProtectedClassMembers
+@SuppressWarnings({"WeakerAccess", "unused"})
+public class HistogramMetrics extends LoaderMetrics {
+
+    /** The entries by loader class and id. */
+    private final ConcurrentHashMap<Class<?>, ConcurrentHashMap<Integer, Entry>> mEntries =
+            new ConcurrentHashMap<>();
+
+    /** {@inheritDoc} */
+    @Override
+    public void onStarted(@NonNull Loader<?> loader, long queueNanos) {
+        entryOf(loader).queue.record(queueNanos);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onFinished(@NonNull Loader<?> loader, long loadNanos) {
+        entryOf(loader).load.record(loadNanos);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onFailed(@NonNull Loader<?> loader, long loadNanos) {
+        entryOf(loader).failed.record(loadNanos);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onCancelled(@NonNull Loader<?> loader, long loadNanos) {
+        final Entry entry = entryOf(loader);
+        entry.cancelled.record(loadNanos);
+        entry.mWasted.addAndGet(loadNanos);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onDelivered(@NonNull Loader<?> loader, long deliveryNanos) {
+        entryOf(loader).delivery.record(deliveryNanos);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onReleased(@NonNull Loader<?> loader) {
+        entryOf(loader).mReleased.incrementAndGet();
+    }
+
+    /**
+     * @param loader the loader
+     * @return the histograms of loader class and id
+     */
+    @NonNull
+    public final Entry entryOf(@NonNull Loader<?> loader) {
+        final Class<?> type = loader.getClass();
+        ConcurrentHashMap<Integer, Entry> entries = mEntries.get(type);
+        if (entries == null) {
+            final ConcurrentHashMap<Integer, Entry> created = new ConcurrentHashMap<>();
+            entries = mEntries.putIfAbsent(type, created);
+            if (entries == null) entries = created;
+        }
+        final Integer id = loader.getId();
+        Entry result = entries.get(id);
+        if (result == null) {
+            final Entry created = new Entry();
+            result = entries.putIfAbsent(id, created);
+            if (result == null) result = created;
+        }
+        return result;
+    }
+
+    /** @return the histograms by "class#id" names, for export */
+    @NonNull
+    public final Map<String, Entry> getEntries() {
+        final HashMap<String, Entry> result = new HashMap<>();
+        for (final Map.Entry<Class<?>, ConcurrentHashMap<Integer, Entry>> type : mEntries.entrySet())
+            for (final Map.Entry<Integer, Entry> entry : type.getValue().entrySet())
+                result.put(type.getKey().getName() + "#" + entry.getKey(), entry.getValue());
+        return result;
+    }
+
+    /** Removes all histograms. */
+    public final void clear() {mEntries.clear();}
+
+    /**
+     * The histograms of loader.
+     *
+     * @author Nikitenko Gleb
+     * @since 1.0, 18/10/2026
+     */
+    @Keep@KeepPublicProtectedClassMembers
+    public static final class Entry {
+
+        /** The time in the executor queue. */
+        @NonNull public final LatencyHistogram queue = new LatencyHistogram();
+        /** The time of finished background loads. */
+        @NonNull public final LatencyHistogram load = new LatencyHistogram();
+        /** The time of cancelled background loads. */
+        @NonNull public final LatencyHistogram cancelled = new LatencyHistogram();
+        /** The time of failed background loads, not counted as wasted. */
+        @NonNull public final LatencyHistogram failed = new LatencyHistogram();
+        /** The time from the end of background load to the client. */
+        @NonNull public final LatencyHistogram delivery = new LatencyHistogram();
+
+        /** The background time of cancelled loads, in nanoseconds. */
+        private final AtomicLong mWasted = new AtomicLong();
+        /** The count of released results. */
+        private final AtomicLong mReleased = new AtomicLong();
+
+        /** Constructs a new {@link Entry}. */
+        Entry() {}
+
+        /** @return the background time of cancelled loads, in nanoseconds */
+        public final long getWastedNanos() {return mWasted.get();}
+
+        /** @return the count of released results */
+        public final long getReleased() {return mReleased.get();}
+    }
+}
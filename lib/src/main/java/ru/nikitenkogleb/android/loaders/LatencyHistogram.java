@@ -0,0 +1,123 @@
+/*
+ * 	LatencyHistogram.java
+ * 	app
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package ru.nikitenkogleb.android.loaders;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import proguard.annotation.Keep;
+import proguard.annotation.KeepPublicProtectedClassMembers;
+
+/**
+ * The lock-free histogram of durations.
+ * <p>
+ * Log-linear buckets: each power of two is split to {@link #SUB_BUCKETS} linear ones,
+ * so recorded values are kept with 12.5% relative precision. Recording is a single
+ * atomic increment, without locks and allocations.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+@Keep@KeepPublicProtectedClassMembers
+@SuppressWarnings({"WeakerAccess", "unused"})
+public final class LatencyHistogram {
+
+    /** The bits of linear sub-buckets. */
+    private static final int SUB_BITS = 3;
+    /** The count of linear sub-buckets. */
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    /** The count of buckets. */
+    private static final int BUCKETS = (64 - SUB_BITS + 1) * SUB_BUCKETS;
+
+    /** The bucket counts. */
+    private final AtomicLongArray mCounts = new AtomicLongArray(BUCKETS);
+
+    /** @param value the value for record, negative counts as zero */
+    public final void record(long value) {
+        mCounts.incrementAndGet(indexOf(Math.max(0, value)));
+    }
+
+    /** @return the count of recorded values */
+    public final long getCount() {
+        long result = 0;
+        for (int i = 0; i < BUCKETS; i++) result += mCounts.get(i);
+        return result;
+    }
+
+    /**
+     * @param percentile the percentile, from 0 to 100
+     * @return the value at percentile, or 0 if empty
+     */
+    public final long getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100)
+            throw new IllegalArgumentException("Wrong percentile: " + percentile);
+        final long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) total += counts[i] = mCounts.get(i);
+        if (total == 0) return 0;
+        final long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++)
+            if ((count += counts[i]) >= rank) return valueOf(i);
+        return valueOf(BUCKETS - 1);
+    }
+
+    /** @return the median */
+    public final long getP50() {return getPercentile(50);}
+
+    /** @return the 99th percentile */
+    public final long getP99() {return getPercentile(99);}
+
+    /** Resets all counts. */
+    public final void reset() {
+        for (int i = 0; i < BUCKETS; i++) mCounts.set(i, 0);
+    }
+
+    /**
+     * @param value the non-negative value
+     * @return the bucket index
+     */
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int mantissa = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + mantissa;
+    }
+
+    /**
+     * @param index the bucket index
+     * @return the middle value of bucket
+     */
+    private static long valueOf(int index) {
+        if (index < SUB_BUCKETS) return index;
+        final int exponent = index / SUB_BUCKETS + SUB_BITS - 1;
+        final long width = 1L << (exponent - SUB_BITS);
+        final long lower = (1L << exponent) + (index % SUB_BUCKETS) * width;
+        return lower + width / 2;
+    }
+}
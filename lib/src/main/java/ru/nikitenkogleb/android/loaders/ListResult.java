@@ -0,0 +1,104 @@
+/*
+ * 	ListResult.java
+ * 	app
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package ru.nikitenkogleb.android.loaders;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+
+import proguard.annotation.Keep;
+import proguard.annotation.KeepPublicProtectedClassMembers;
+
+/**
+ * The list of items with the difference from the previously delivered one.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+@Keep@KeepPublicProtectedClassMembers
+@SuppressWarnings({"WeakerAccess", "unused"})
+public final class ListResult<E> {
+
+    /** The items. */
+    @NonNull private final List<E> mItems;
+    /** The items the difference is computed from, or null. */
+    @Nullable private final List<E> mBase;
+    /** The difference. */
+    @Nullable private Diff mDiff;
+
+    /**
+     * Constructs a new {@link ListResult}.
+     *
+     * @param items the items
+     * @param base the items the difference is computed from, or null
+     * @param diff the difference
+     */
+    ListResult(@NonNull List<E> items, @Nullable List<E> base, @Nullable Diff diff) {
+        mItems = Collections.unmodifiableList(items); mBase = base; mDiff = diff;
+    }
+
+    /** @return the items */
+    @NonNull
+    public final List<E> getItems() {return mItems;}
+
+    /**
+     * Takes the difference from the previously delivered list. The difference is taken once,
+     * so the redelivered result must be rebound in full.
+     *
+     * @return the difference, or null when the whole list must be rebound
+     */
+    @Nullable
+    public final Diff takeDiff() {
+        final Diff result = mDiff;
+        mDiff = null;
+        return result;
+    }
+
+    /** Drops the difference, so the whole list must be rebound. */
+    final void clearDiff() {mDiff = null;}
+
+    /**
+     * @param items the items the client has
+     * @return true if the difference is computed from the given items
+     */
+    final boolean isBasedOn(@Nullable List<E> items) {return mBase == items;}
+
+    /** {@inheritDoc} */
+    @Override
+    public final boolean equals(Object object) {
+        return this == object ||
+                object instanceof ListResult && mItems.equals(((ListResult) object).mItems);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final int hashCode() {return mItems.hashCode();}
+}
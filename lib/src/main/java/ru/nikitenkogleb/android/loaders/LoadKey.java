@@ -0,0 +1,187 @@
+/*
+ * 	LoadKey.java
+ * 	app
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package ru.nikitenkogleb.android.loaders;
+
+import android.os.Bundle;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+
+import proguard.annotation.Keep;
+import proguard.annotation.KeepPublicProtectedClassMembers;
+
+/**
+ * The identity of a load: the loader kind and the content of its args.
+ * <p>
+ * Two keys are equal when the kinds are equal and the args hold equal values by the same
+ * names. Nested bundles and arrays are compared by content.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+@Keep@KeepPublicProtectedClassMembers
+@SuppressWarnings({"WeakerAccess", "unused"})
+public final class LoadKey {
+
+    /** The loader kind. */
+    @NonNull private final String mKind;
+    /** The flattened args. */
+    @NonNull private final List<Object> mArgs;
+    /** The hash code. */
+    private final int mHashCode;
+
+    /**
+     * Constructs a new {@link LoadKey}.
+     *
+     * @param kind the loader kind
+     * @param args the flattened args
+     */
+    private LoadKey(@NonNull String kind, @NonNull List<Object> args) {
+        mKind = kind; mArgs = args;
+        mHashCode = 31 * kind.hashCode() + args.hashCode();
+    }
+
+    /**
+     * @param kind the loader class
+     * @param args the loader args
+     *
+     * @return the load key
+     */
+    @NonNull
+    public static LoadKey of(@NonNull Class<?> kind, @Nullable Bundle args) {
+        return of(kind.getName(), args);
+    }
+
+    /**
+     * @param kind the loader kind
+     * @param args the loader args
+     *
+     * @return the load key
+     */
+    @NonNull
+    public static LoadKey of(@NonNull String kind, @Nullable Bundle args) {
+        return new LoadKey(kind, args != null ? flatten(args) : Collections.emptyList());
+    }
+
+    /** @return the loader kind */
+    @NonNull
+    public final String getKind() {return mKind;}
+
+    /** {@inheritDoc} */
+    @Override
+    public final boolean equals(Object object) {
+        if (this == object) return true;
+        if (!(object instanceof LoadKey)) return false;
+        final LoadKey key = (LoadKey) object;
+        return mHashCode == key.mHashCode && mKind.equals(key.mKind) && mArgs.equals(key.mArgs);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final int hashCode() {return mHashCode;}
+
+    /** {@inheritDoc} */
+    @Override
+    public final String toString() {return mKind + mArgs;}
+
+    /**
+     * The string for persistent storage. Unlike {@link #toString()}, not depends on the
+     * identity of objects, so it is the same in any process.
+     *
+     * @return the stable string, or null if some arg is not a string, primitive or enum
+     */
+    @Nullable
+    public final String toStableString() {
+        final StringBuilder builder = new StringBuilder(mKind);
+        return append(builder, mArgs) ? builder.toString() : null;
+    }
+
+    /**
+     * @param builder the target builder
+     * @param value the normalized value
+     *
+     * @return false if the value has no stable string
+     */
+    private static boolean append(@NonNull StringBuilder builder, @Nullable Object value) {
+        if (value instanceof List) {
+            final List<?> list = (List<?>) value;
+            builder.append('[');
+            for (int i = 0; i < list.size(); i++) {
+                if (i != 0) builder.append(',');
+                if (!append(builder, list.get(i))) return false;
+            }
+            builder.append(']');
+        } else if (value instanceof String) {
+            builder.append('"').append(((String) value)
+                    .replace("\\", "\\\\").replace("\"", "\\\"")).append('"');
+        } else if (value instanceof Enum) {
+            builder.append(value.getClass().getName()).append('.').append(((Enum<?>) value).name());
+        } else if (value instanceof Number || value instanceof Boolean ||
+                value instanceof Character) {
+            builder.append(value.getClass().getSimpleName()).append(':').append(value);
+        } else if (value == null) {
+            builder.append("null");
+        } else return false;
+        return true;
+    }
+
+    /**
+     * @param bundle the source bundle
+     * @return the sorted list of names and values
+     */
+    @NonNull
+    private static List<Object> flatten(@NonNull Bundle bundle) {
+        final TreeSet<String> names = new TreeSet<>(bundle.keySet());
+        final ArrayList<Object> result = new ArrayList<>(names.size() * 2);
+        for (final String name : names) {
+            result.add(name);
+            result.add(normalize(bundle.get(name)));
+        }
+        return result;
+    }
+
+    /**
+     * @param value the bundle value
+     * @return the value with content-based equality
+     */
+    @Nullable
+    private static Object normalize(@Nullable Object value) {
+        if (value instanceof Bundle) return flatten((Bundle) value);
+        if (value == null || !value.getClass().isArray()) return value;
+        final int length = Array.getLength(value);
+        final ArrayList<Object> result = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) result.add(normalize(Array.get(value, i)));
+        return result;
+    }
+}
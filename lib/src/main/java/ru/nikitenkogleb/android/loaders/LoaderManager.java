@@ -32,10 +32,13 @@ import android.os.Bundle;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.support.v4.content.Loader;
+import android.util.SparseArray;
+import android.view.Choreographer;
 
 import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.Iterator;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 import proguard.annotation.Keep;
 import proguard.annotation.KeepPublicProtectedClassMembers;
@@ -63,7 +66,21 @@ public class LoaderManager {
                 @Override @Nullable
                 public final Loader<Object> onCreateLoader(int id, @NonNull Bundle args) {
                     checkStarted("onCreateLoader");
-                    return LoaderManager.this.onCreateLoader(id, args);
+                    final Loader<Object> result = LoaderManager.this.onCreateLoader(id, args);
+                    if (result instanceof BaseLoader) {
+                        final BaseLoader loader = (BaseLoader) result;
+                        loader.setPriority(mPriority);
+                        if (mTimeout != 0) loader.setTimeout(mTimeout);
+                        loader.setCallbacks(mLoaderCallbacks);
+                        final Executor executor = loader.getExecutor();
+                        if (mHeld != null && executor instanceof PriorityExecutor &&
+                                !mHeld.contains(executor)) {
+                            ((PriorityExecutor) executor).hold();
+                            mHeld.add((PriorityExecutor) executor);
+                        }
+                        loader.setKeyArgs(args);
+                    }
+                    return result;
                 }
 
                 /** {@inheritDoc} */
@@ -73,31 +90,65 @@ public class LoaderManager {
                         checkStarted("onLoadFinished");
                         final int loaderId = loader.getId();
 
-                        if (!mStableIds.contains(loaderId)) {
-                            mLoaderManager.destroyLoader(loaderId);
-                            mLoaders.remove(loaderId);
+                        final LoaderMetrics metrics = LoaderMetrics.get();
+                        if (metrics != null && loader instanceof BaseLoader) {
+                            final long finished = ((BaseLoader<?>) loader).takeFinishedNanos();
+                            if (finished != 0) {
+                                metrics.onDelivered(loader, System.nanoTime() - finished);
+                            }
                         }
 
-                        LoaderManager.this.onLoadFinished(loaderId, data);
+                        if (mFrameDelivery) {
+                            // The one-shot loader lives until the frame dispatch
+                            final int index = mDeliveries.indexOfKey(loaderId);
+                            // The diff of list is computed from the superseded one,
+                            // which the client never receives
+                            if (index >= 0 && mDeliveries.valueAt(index) != data &&
+                                    data instanceof ListResult)
+                                ((ListResult<?>) data).clearDiff();
+                            mDeliveries.put(loaderId, data);
+                            postFrame();
+                        } else {
+                            deliver(loader, data);
+                        }
                 }
 
                 /** {@inheritDoc} */
                 @Override
                 public final void onLoaderReset(@NonNull Loader<Object> loader) {
+                    // The pending data is released already
+                    mDeliveries.remove(loader.getId());
                     LoaderManager.this.onLoadFinished(loader.getId(), null);
                 }
             };
 
+    /** The library loader callbacks. */
+    private final BaseLoader.Callbacks mLoaderCallbacks = new BaseLoader.Callbacks() {
 
-    /** Pending loaders. */
-    private final HashSet<Integer> mPendingLoaders = new HashSet<>();
+        /** {@inheritDoc} */
+        @Override
+        public final void onLoadProgress(@NonNull BaseLoader<?> loader, @Nullable Object partial) {
+            checkCreated("onLoadProgress");
+            // The throttled progress may come after stop, it is outdated then
+            if (!mStopped) LoaderManager.this.onLoadProgress(loader.getId(), partial);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public final void onLoadFailed(@NonNull BaseLoader<?> loader, @NonNull Throwable error) {
+            checkCreated("onLoadFailed");
+            if (mStopped) mFailures.put(loader.getId(), error);
+            else fail(loader.getId(), error);
+        }
+    };
+
+    /** Current loaders. */
+    private final LoaderRegistry mRegistry = new LoaderRegistry();
+    /** The restored args, unparceled on demand. */
+    @Nullable private BundleMap mRestored = null;
 
     /** The loader manager. */
     private final android.support.v4.app.LoaderManager mLoaderManager;
-    /** Current loaders. */
-    private final BundleMap mLoaders;
-    /** Stable loader ids. */
-    private final ArrayList<Integer> mStableIds;
 
     /** Is loader-manager was stopped. */
     private boolean mStopped = true;
@@ -107,6 +158,34 @@ public class LoaderManager {
     /** Is loader-manager was closed. */
     private boolean mClosed;
 
+    /** The priority of loaders being created. */
+    private int mPriority = PriorityExecutor.PRIORITY_NORMAL;
+    /** The timeout of loaders being created, or 0. */
+    private long mTimeout = 0;
+    /** Deliver the results by frames, flag. */
+    private boolean mFrameDelivery = false;
+    /** The per-frame budget of deliveries, in nanoseconds. */
+    private long mFrameBudget = TimeUnit.MILLISECONDS.toNanos(4);
+    /** The pending deliveries by loader ids. */
+    private final SparseArray<Object> mDeliveries = new SparseArray<>();
+    /** The failures arrived in stopped state, by loader ids. */
+    private final SparseArray<Throwable> mFailures = new SparseArray<>();
+    /** The frame callback is posted. */
+    private boolean mFramePosted = false;
+
+    /** The frame delivery. */
+    private final Choreographer.FrameCallback mFrameCallback = new Choreographer.FrameCallback() {
+        /** {@inheritDoc} */
+        @Override
+        public final void doFrame(long frameTimeNanos) {
+            mFramePosted = false;
+            if (!mStopped) deliverFrame();
+        }
+    };
+
+    /** The executors held during the batch start. */
+    @Nullable private ArrayList<PriorityExecutor> mHeld = null;
+
     /**
      * Constructs a new {@link LoaderManager} with saved state.
      *
@@ -119,30 +198,36 @@ public class LoaderManager {
         if (state != null) {
 
             final ArrayList<Integer> stableIds = state.getIntegerArrayList(STATE_STABLES);
-            mStableIds = stableIds != null ? stableIds : new ArrayList<>();
-
+            final int[] stables = new int[stableIds != null ? stableIds.size() : 0];
+            for (int i = 0; i < stables.length; i++) stables[i] = stableIds.get(i);
+            Arrays.sort(stables);
             final BundleMap loaders = state.getParcelable(STATE_LOADERS);
             if (loaders != null) {
-                mLoaders = loaders;
-                // Retain loader's callback
-                final int count = mLoaders.size();
+                mRestored = loaders;
+                final int count = loaders.size();
                 for (int i = 0; i < count; i++) {
-                    final int loaderId = mLoaders.keyAt(i);
+                    final int loaderId = loaders.keyAt(i);
+                    mRegistry.restore(loaderId, Arrays.binarySearch(stables, loaderId) >= 0);
+                }
+                // Retain loader's callback
+                for (int i = 0; i < mRegistry.size();) {
+                    final int loaderId = mRegistry.idAt(i);
                     if (mLoaderManager.getLoader(loaderId) != null) {
-                        if (mLoaderManager.initLoader(loaderId, null, mCallbacks) == null) {
-                            mLoaders.removeAt(i);
-                            mStableIds.remove(loaderId);
+                        final Loader<Object> loader =
+                                mLoaderManager.initLoader(loaderId, null, mCallbacks);
+                        if (loader == null) {
+                            mRegistry.removeAt(i); continue;
                         }
+                        // The pending restart is still bound to the closed manager
+                        if (loader != mLoaderManager.getLoader(loaderId))
+                            mRegistry.setPendingAt(i, true);
+                        else attach(loader, false);
                     } else {
-                        mPendingLoaders.add(loaderId);
+                        mRegistry.setPendingAt(i, true);
                     }
+                    i++;
                 }
-            } else {
-                mLoaders = new BundleMap();
             }
-        } else {
-            mLoaders = new BundleMap();
-            mStableIds = new ArrayList<>();
         }
     }
 
@@ -153,8 +238,20 @@ public class LoaderManager {
      */
     public final void backup(@NonNull Bundle state) {
         checkStarted("backup");
-        state.putParcelable(STATE_LOADERS, mLoaders);
-        state.putIntegerArrayList(STATE_STABLES, mStableIds);
+        // Not yet unparceled args are kept raw in the restored map
+        final BundleMap loaders = mRestored != null ? mRestored : new BundleMap();
+        for (int i = loaders.size() - 1; i >= 0; i--)
+            if (!mRegistry.contains(loaders.keyAt(i))) loaders.removeAt(i);
+        final int count = mRegistry.size();
+        final ArrayList<Integer> stableIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final int loaderId = mRegistry.idAt(i);
+            if (!mRegistry.isRestoredAt(i)) loaders.put(loaderId, mRegistry.argsAt(i));
+            if (mRegistry.isStableAt(i)) stableIds.add(loaderId);
+        }
+        mRestored = loaders;
+        state.putParcelable(STATE_LOADERS, loaders);
+        state.putIntegerArrayList(STATE_STABLES, stableIds);
         mSaved = true;
     }
 
@@ -164,15 +261,70 @@ public class LoaderManager {
         mStopped = false;
         mSaved = false;
 
-        if (!mPendingLoaders.isEmpty())
-            for (final Iterator<Integer> iterator = mPendingLoaders.iterator(); iterator.hasNext();) {
-                final Integer id = iterator.next();
-                if (mLoaderManager.initLoader(id, mLoaders.get(id), mCallbacks) == null) {
-                    mLoaders.remove(id);
-                    mStableIds.remove(id);
+        for (int i = 0; i < mRegistry.size();) {
+            if (mRegistry.isPendingAt(i)) {
+                final int id = mRegistry.idAt(i);
+                mRegistry.setPendingAt(i, false);
+                // The retained one has a pending restart, which is taken over
+                final Loader<Object> loader = mLoaderManager.getLoader(id) == null ?
+                        mLoaderManager.initLoader(id, argsAt(i), mCallbacks) :
+                        mLoaderManager.restartLoader(id, argsAt(i), mCallbacks);
+                if (loader == null) {
+                    mRegistry.removeAt(i); continue;
                 }
-                iterator.remove();
+                attach(loader, true);
             }
+            i++;
+        }
+
+        if (mDeliveries.size() != 0) postFrame();
+
+        if (mFailures.size() != 0) {
+            final SparseArray<Throwable> failures = mFailures.clone();
+            mFailures.clear();
+            for (int i = 0; i < failures.size(); i++) fail(failures.keyAt(i), failures.valueAt(i));
+        }
+    }
+
+    /**
+     * Destroys the failed one-shot loader and dispatches the failure.
+     *
+     * @param id the loader id
+     * @param error the load failure
+     */
+    private void fail(int id, @NonNull Throwable error) {
+        if (!mRegistry.isStable(id)) {
+            mLoaderManager.destroyLoader(id);
+            mRegistry.remove(id);
+        }
+        onLoadFailed(id, error);
+    }
+
+    /**
+     * Binds the loader to this manager. A loader retained over configuration change
+     * is still bound to the previous, closed one.
+     *
+     * @param loader the loader
+     * @param prioritize true for apply the priority of loaders being started
+     */
+    private void attach(@NonNull Loader<Object> loader, boolean prioritize) {
+        if (loader instanceof BaseLoader) {
+            final BaseLoader baseLoader = (BaseLoader) loader;
+            baseLoader.setCallbacks(mLoaderCallbacks);
+            if (prioritize) baseLoader.setPriority(mPriority);
+        }
+    }
+
+    /**
+     * @param index the loader index
+     * @return the loader args, unparceled on first access
+     */
+    @Nullable
+    private Bundle argsAt(int index) {
+        if (!mRegistry.isRestoredAt(index) || mRestored == null) return mRegistry.argsAt(index);
+        final Bundle result = mRestored.get(mRegistry.idAt(index));
+        mRegistry.setArgsAt(index, result);
+        return result;
     }
 
     /** Switch to "STOPPED" mode. */
@@ -184,13 +336,104 @@ public class LoaderManager {
     /** Release resources */
     public final void close() {
         checkStopped("close");
+        // Retained loaders must not call the closed manager
+        for (int i = 0; i < mRegistry.size(); i++) {
+            final Loader<Object> loader = mLoaderManager.getLoader(mRegistry.idAt(i));
+            if (loader instanceof BaseLoader) ((BaseLoader) loader).setCallbacks(null);
+        }
         if (!mSaved) {
-            mLoaders.clear();
-            mStableIds.clear();
+            mRegistry.clear();
+            // Deletes the spill files of the finished screen
+            if (mRestored != null) mRestored.clear();
+            mRestored = null;
+        }
+        if (mFramePosted) {
+            Choreographer.getInstance().removeFrameCallback(mFrameCallback);
+            mFramePosted = false;
         }
+        // The retained loaders, one-shot too, redeliver pending results after the retain
+        mDeliveries.clear();
+        mFailures.clear();
         mClosed = true;
     }
 
+    /**
+     * Enables delivery of results by frames. The results arrived within one frame are
+     * dispatched together on the next vsync, the latest one per loader; the dispatch
+     * continues on following frames once the per-frame budget is spent.
+     * Resets are dispatched immediately.
+     *
+     * @param enabled true for deliver by frames
+     */
+    public final void setFrameDelivery(boolean enabled) {
+        mFrameDelivery = enabled;
+        if (!enabled && !mStopped) deliverAll();
+    }
+
+    /**
+     * Sets the per-frame budget of deliveries. At least one result is dispatched per frame,
+     * so a single large result is not split.
+     *
+     * @param budget the budget, in milliseconds
+     */
+    public final void setFrameBudget(long budget) {
+        if (budget < 0) throw new IllegalArgumentException("Negative budget: " + budget);
+        mFrameBudget = TimeUnit.MILLISECONDS.toNanos(budget);
+    }
+
+    /** Posts the frame delivery. */
+    private void postFrame() {
+        if (mFramePosted) return;
+        mFramePosted = true;
+        Choreographer.getInstance().postFrameCallback(mFrameCallback);
+    }
+
+    /**
+     * Dispatches the pending deliveries within the frame budget.
+     * The budget only spreads separate results over frames:
+     * one large result still costs a whole frame.
+     */
+    private void deliverFrame() {
+        final long start = System.nanoTime();
+        while (mDeliveries.size() != 0) {
+            deliverFirst();
+            if (System.nanoTime() - start >= mFrameBudget) break;
+        }
+        if (mDeliveries.size() != 0) postFrame();
+    }
+
+    /** Dispatches all pending deliveries. */
+    private void deliverAll() {
+        while (mDeliveries.size() != 0) deliverFirst();
+    }
+
+    /** Dispatches the first pending delivery. */
+    private void deliverFirst() {
+        final int id = mDeliveries.keyAt(0);
+        final Object data = mDeliveries.valueAt(0);
+        mDeliveries.removeAt(0);
+        final Loader<Object> loader = mLoaderManager.getLoader(id);
+        if (loader != null) deliver(loader, data);
+        else onLoadFinished(id, data);
+    }
+
+    /**
+     * Destroys the finished one-shot loader, dispatches the result
+     * and confirms it to the loader, to release the replaced data.
+     *
+     * @param loader the loader
+     * @param data the result
+     */
+    private void deliver(@NonNull Loader<Object> loader, @Nullable Object data) {
+        final int id = loader.getId();
+        if (!mRegistry.isStable(id)) {
+            mLoaderManager.destroyLoader(id);
+            mRegistry.remove(id);
+        }
+        onLoadFinished(id, data);
+        if (loader instanceof BaseLoader) ((BaseLoader<?>) loader).confirm(data);
+    }
+
     /**
      * Start the loader.
      *
@@ -198,16 +441,100 @@ public class LoaderManager {
      * @param args the loader args
      */
     public final void startLoad(int id, @NonNull Bundle args, boolean stable) {
+        startLoad(id, args, stable, PriorityExecutor.PRIORITY_NORMAL);
+    }
+
+    /**
+     * Start the loader in the given lane.
+     *
+     * @param id the loader id
+     * @param args the loader args
+     * @param priority the load priority
+     */
+    public final void startLoad(int id, @NonNull Bundle args, boolean stable,
+            @PriorityExecutor.Priority int priority) {
+        startLoad(id, args, stable, priority, 0);
+    }
+
+    /**
+     * Start the loader in the given lane, with the deadline of each background load.
+     *
+     * @param id the loader id
+     * @param args the loader args
+     * @param priority the load priority
+     * @param timeout the timeout in milliseconds, or 0 for the loader's own one
+     *
+     * @see BaseLoader#setTimeout(long)
+     */
+    public final void startLoad(int id, @NonNull Bundle args, boolean stable,
+            @PriorityExecutor.Priority int priority, long timeout) {
         checkStarted("startLoad");
+        if (timeout < 0) throw new IllegalArgumentException("Negative timeout: " + timeout);
+        mPriority = priority;
+        mTimeout = timeout;
+        try {
+            load(id, args, stable);
+        } finally {
+            mPriority = PriorityExecutor.PRIORITY_NORMAL;
+            mTimeout = 0;
+        }
+    }
+
+    /**
+     * Start the loaders in one batch.
+     *
+     * @param loads the loader args by ids
+     * @param stable true for stable loaders
+     */
+    public final void startLoads(@NonNull SparseArray<Bundle> loads, boolean stable) {
+        startLoads(loads, stable, PriorityExecutor.PRIORITY_NORMAL);
+    }
+
+    /**
+     * Start the loaders in one batch, in the given lane. The loads are submitted to
+     * {@link PriorityExecutor}s together, after all loaders are started.
+     *
+     * @param loads the loader args by ids
+     * @param stable true for stable loaders
+     * @param priority the load priority
+     */
+    public final void startLoads(@NonNull SparseArray<Bundle> loads, boolean stable,
+            @PriorityExecutor.Priority int priority) {
+        checkStarted("startLoads");
+        final ArrayList<PriorityExecutor> held = mHeld = new ArrayList<>();
+        mPriority = priority;
+        try {
+            final int count = loads.size();
+            for (int i = 0; i < count; i++) {
+                load(loads.keyAt(i), loads.valueAt(i), stable);
+            }
+        } finally {
+            mPriority = PriorityExecutor.PRIORITY_NORMAL;
+            mHeld = null;
+            for (int i = 0; i < held.size(); i++) {
+                held.get(i).resume();
+            }
+        }
+    }
+
+    /**
+     * @param id the loader id
+     * @param args the loader args
+     * @param stable true for stable loader
+     */
+    private void load(int id, @NonNull Bundle args, boolean stable) {
         if (mLoaderManager.getLoader(id) == null) {
-            if (mLoaderManager.initLoader(id, args, mCallbacks) != null) {
-                mLoaders.put(id, args);
-                if (stable) mStableIds.add(id);
+            final Loader<Object> loader = mLoaderManager.initLoader(id, args, mCallbacks);
+            if (loader != null) {
+                attach(loader, true);
+                mRegistry.put(id, args, stable);
             }
         } else {
-            if (mLoaderManager.restartLoader(id, args, mCallbacks) == null) {
-                mLoaders.remove(id);
-                mStableIds.remove(id);
+            final Loader<Object> loader = mLoaderManager.restartLoader(id, args, mCallbacks);
+            if (loader == null) {
+                mRegistry.remove(id);
+            } else {
+                attach(loader, true);
             }
         }
     }
@@ -219,15 +546,33 @@ public class LoaderManager {
      */
     public final void stopLoad(int id) {
         checkStarted("stopLoad");
-        if (mStableIds.contains(id)) {
+        if (mRegistry.isStable(id)) {
             mLoaderManager.destroyLoader(id);
-            mLoaders.remove(id);
-            mStableIds.remove(id);
+            mRegistry.remove(id);
         } else {
             throw new IllegalStateException("Loader " + id + " missing");
         }
     }
 
+    /**
+     * Stop the loaders in one batch. Nothing is stopped, if one of loaders is missing.
+     *
+     * @param ids the loader ids.
+     */
+    public final void stopLoads(@NonNull int... ids) {
+        checkStarted("stopLoads");
+        for (final int id : ids) {
+            if (!mRegistry.isStable(id)) {
+                throw new IllegalStateException("Loader " + id + " missing");
+            }
+        }
+        for (final int id : ids) {
+            if (mRegistry.remove(id)) {
+                mLoaderManager.destroyLoader(id);
+            }
+        }
+    }
+
     /**
      * @param id the loader id
      * @return true if loader exist, otherwise - false
@@ -280,6 +625,22 @@ public class LoaderManager {
      */
     protected void onLoadFinished(int id, @Nullable Object data) {}
 
+    /**
+     * Load progress resolver.
+     *
+     * @param id the loader id
+     * @param partial the partial result
+     */
+    protected void onLoadProgress(int id, @Nullable Object partial) {}
+
+    /**
+     * Load failure resolver. Stable loaders keep their last data.
+     *
+     * @param id the loader id
+     * @param error the load failure
+     */
+    protected void onLoadFailed(int id, @NonNull Throwable error) {}
+
     /** {@inheritDoc} */
     protected final void finalize() throws Throwable {
         try {
@@ -0,0 +1,125 @@
+/*
+ * 	LoaderMetrics.java
+ * 	app
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package ru.nikitenkogleb.android.loaders;
+
+import android.support.annotation.AnyThread;
+import android.support.annotation.MainThread;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.WorkerThread;
+import android.support.v4.content.Loader;
+
+import proguard.annotation.Keep;
+import proguard.annotation.KeepPublicProtectedClassMembers;
+
+/**
+ * The listener of load phases.
+ * <p>
+ * {@link BaseLoader} and {@link LoaderManager} report every phase to the installed
+ * instance. All durations are in nanoseconds. Callbacks should be cheap and non-blocking.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+@Keep@KeepPublicProtectedClassMembers
+@SuppressWarnings({"WeakerAccess", "unused"})
+public abstract class LoaderMetrics {
+
+    /** The installed instance. */
+    @Nullable private static volatile LoaderMetrics sInstance = null;
+
+    /** @param metrics the metrics for install, or null for uninstall */
+    @AnyThread
+    public static void install(@Nullable LoaderMetrics metrics) {sInstance = metrics;}
+
+    /** @return the installed metrics or null */
+    @Nullable
+    static LoaderMetrics get() {return sInstance;}
+
+    /**
+     * Calls when the load is submitted to the executor.
+     *
+     * @param loader the loader
+     */
+    @MainThread
+    public void onQueued(@NonNull Loader<?> loader) {}
+
+    /**
+     * Calls when the background load is started.
+     *
+     * @param loader the loader
+     * @param queueNanos the time in the executor queue
+     */
+    @WorkerThread
+    public void onStarted(@NonNull Loader<?> loader, long queueNanos) {}
+
+    /**
+     * Calls when the background load is finished.
+     *
+     * @param loader the loader
+     * @param loadNanos the time of background load
+     */
+    @WorkerThread
+    public void onFinished(@NonNull Loader<?> loader, long loadNanos) {}
+
+    /**
+     * Calls when the background load is failed or timed out.
+     *
+     * @param loader the loader
+     * @param loadNanos the time of background load
+     */
+    @WorkerThread
+    public void onFailed(@NonNull Loader<?> loader, long loadNanos) {}
+
+    /**
+     * Calls when the background load is cancelled.
+     *
+     * @param loader the loader
+     * @param loadNanos the time of background load
+     */
+    @WorkerThread
+    public void onCancelled(@NonNull Loader<?> loader, long loadNanos) {}
+
+    /**
+     * Calls when the result has reached the loader manager client.
+     *
+     * @param loader the loader
+     * @param deliveryNanos the time from the end of background load
+     */
+    @MainThread
+    public void onDelivered(@NonNull Loader<?> loader, long deliveryNanos) {}
+
+    /**
+     * Calls when the result is released.
+     *
+     * @param loader the loader
+     */
+    @MainThread
+    public void onReleased(@NonNull Loader<?> loader) {}
+}
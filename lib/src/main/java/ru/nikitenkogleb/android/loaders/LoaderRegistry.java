@@ -0,0 +1,206 @@
+/*
+ * 	LoaderRegistry.java
+ * 	app
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package ru.nikitenkogleb.android.loaders;
+
+import android.os.Bundle;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * The registry of managed loaders by id.
+ * <p>
+ * Keeps the args and flags in parallel arrays, sorted by id.
+ * Lookups are binary searches without boxing and allocations.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+final class LoaderRegistry {
+
+    /** The stable loader flag. */
+    private static final int FLAG_STABLE = 1;
+    /** The pending loader flag. */
+    private static final int FLAG_PENDING = 1 << 1;
+    /** The flag of args kept in the restored state. */
+    private static final int FLAG_RESTORED = 1 << 2;
+
+    /** The initial capacity. */
+    private static final int INITIAL_CAPACITY = 8;
+
+    /** The loader ids, ascending. */
+    @NonNull private int[] mIds = new int[INITIAL_CAPACITY];
+    /** The loader args. */
+    @NonNull private Bundle[] mArgs = new Bundle[INITIAL_CAPACITY];
+    /** The loader flags. */
+    @NonNull private int[] mFlags = new int[INITIAL_CAPACITY];
+    /** The count of loaders. */
+    private int mSize = 0;
+
+    /** @return the count of loaders */
+    final int size() {return mSize;}
+
+    /**
+     * @param id the loader id
+     * @return the index of loader, or negative if missing
+     */
+    final int indexOf(int id) {
+        return Arrays.binarySearch(mIds, 0, mSize, id);
+    }
+
+    /**
+     * @param id the loader id
+     * @return true if the loader is registered
+     */
+    final boolean contains(int id) {return indexOf(id) >= 0;}
+
+    /**
+     * @param id the loader id
+     * @return true if the loader is registered as stable
+     */
+    final boolean isStable(int id) {
+        final int index = indexOf(id);
+        return index >= 0 && (mFlags[index] & FLAG_STABLE) != 0;
+    }
+
+    /**
+     * @param index the loader index
+     * @return the loader id
+     */
+    final int idAt(int index) {return mIds[index];}
+
+    /**
+     * @param index the loader index
+     * @return the loader args
+     */
+    @Nullable
+    final Bundle argsAt(int index) {return mArgs[index];}
+
+    /**
+     * @param index the loader index
+     * @return true if the loader is stable
+     */
+    final boolean isStableAt(int index) {return (mFlags[index] & FLAG_STABLE) != 0;}
+
+    /**
+     * @param index the loader index
+     * @return true if the loader waits for start
+     */
+    final boolean isPendingAt(int index) {return (mFlags[index] & FLAG_PENDING) != 0;}
+
+    /**
+     * @param index the loader index
+     * @return true if the args are kept in the restored state
+     */
+    final boolean isRestoredAt(int index) {return (mFlags[index] & FLAG_RESTORED) != 0;}
+
+    /**
+     * @param index the loader index
+     * @param args the materialized args
+     */
+    final void setArgsAt(int index, @Nullable Bundle args) {
+        mArgs[index] = args;
+        mFlags[index] &= ~FLAG_RESTORED;
+    }
+
+    /**
+     * @param index the loader index
+     * @param pending true if the loader waits for start
+     */
+    final void setPendingAt(int index, boolean pending) {
+        mFlags[index] = pending ? mFlags[index] | FLAG_PENDING : mFlags[index] & ~FLAG_PENDING;
+    }
+
+    /**
+     * Puts or replaces the loader.
+     *
+     * @param id the loader id
+     * @param args the loader args
+     * @param stable true for stable loader
+     */
+    final void put(int id, @Nullable Bundle args, boolean stable) {
+        int index = indexOf(id);
+        if (index < 0) {
+            index = ~index;
+            if (mSize == mIds.length) grow();
+            final int tail = mSize - index;
+            System.arraycopy(mIds, index, mIds, index + 1, tail);
+            System.arraycopy(mArgs, index, mArgs, index + 1, tail);
+            System.arraycopy(mFlags, index, mFlags, index + 1, tail);
+            mSize++;
+        }
+        mIds[index] = id; mArgs[index] = args;
+        mFlags[index] = stable ? FLAG_STABLE : 0;
+    }
+
+    /**
+     * Puts the restored loader, which args are not unparceled yet.
+     *
+     * @param id the loader id
+     * @param stable true for stable loader
+     */
+    final void restore(int id, boolean stable) {
+        put(id, null, stable);
+        mFlags[indexOf(id)] |= FLAG_RESTORED;
+    }
+
+    /**
+     * @param id the loader id
+     * @return true if the loader was removed
+     */
+    final boolean remove(int id) {
+        final int index = indexOf(id);
+        if (index < 0) return false;
+        removeAt(index);
+        return true;
+    }
+
+    /** @param index the loader index */
+    final void removeAt(int index) {
+        final int tail = mSize - index - 1;
+        System.arraycopy(mIds, index + 1, mIds, index, tail);
+        System.arraycopy(mArgs, index + 1, mArgs, index, tail);
+        System.arraycopy(mFlags, index + 1, mFlags, index, tail);
+        mArgs[--mSize] = null;
+    }
+
+    /** Removes all loaders. */
+    final void clear() {
+        Arrays.fill(mArgs, 0, mSize, null);
+        mSize = 0;
+    }
+
+    /** Doubles the capacity. */
+    private void grow() {
+        final int capacity = mIds.length * 2;
+        mIds = Arrays.copyOf(mIds, capacity); mArgs = Arrays.copyOf(mArgs, capacity);
+        mFlags = Arrays.copyOf(mFlags, capacity);
+    }
+}
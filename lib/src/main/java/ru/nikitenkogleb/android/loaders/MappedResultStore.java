@@ -0,0 +1,373 @@
+/*
+ * 	MappedResultStore.java
+ * 	app
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package ru.nikitenkogleb.android.loaders;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.WorkerThread;
+import android.util.Log;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.RandomAccessFile;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.concurrent.Executor;
+
+import proguard.annotation.Keep;
+import proguard.annotation.KeepPublicProtectedClassMembers;
+
+/**
+ * The persistent storage of load results, surviving the process death.
+ * <p>
+ * Keeps each {@link Serializable} result in the memory-mapped file, named by the digest
+ * of the stable key string: {@link LoadKey#toStableString()} or the {@link String} key.
+ * Other keys and not serializable results are ignored. Writes are performed on the executor;
+ * results written before are visible to {@link #get(Object)} immediately. The files above
+ * the size limit are evicted from the oldest, the files above the age limit are expired.
+ * <p>
+ * The {@link #get(Object)} reads the file, so calls off the main thread.
+ * <p>
+ * Usually assigned to {@link StableLoader#setSnapshots(ResultStore)}, so the restored
+ * screen shows the last known content while the fresh one is loaded.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+@Keep@KeepPublicProtectedClassMembers
+@SuppressWarnings({"WeakerAccess", "unused"})
+public class MappedResultStore implements ResultStore {
+
+    /** The log cat tag. */
+    private static final String TAG = "MappedResultStore";
+
+    /** The file names prefix. */
+    private static final String PREFIX = "result-";
+    /** The temporary files suffix. */
+    private static final String SUFFIX_TEMP = ".tmp";
+
+    /** The default limit of files size, in bytes. */
+    public static final long DEFAULT_MAX_SIZE = 4 * 1024 * 1024;
+
+    /** The removal mark. */
+    private static final Object REMOVED = new Object();
+
+    /** The results directory. */
+    @NonNull private final File mDirectory;
+    /** The writes executor. */
+    @NonNull private final Executor mExecutor;
+    /** The limit of files size, in bytes. */
+    private final long mMaxSize;
+    /** The limit of files age in milliseconds, or 0. */
+    private final long mMaxAge;
+
+    /** Not yet written results, by file name. */
+    private final HashMap<String, Object> mPending = new HashMap<>();
+    /** The writes lock. */
+    private final Object mWriteLock = new Object();
+
+    /**
+     * Constructs a new {@link MappedResultStore} with {@link #DEFAULT_MAX_SIZE}, without expiration.
+     *
+     * @param directory the app-private directory
+     * @param executor the writes executor
+     */
+    public MappedResultStore(@NonNull File directory, @NonNull Executor executor) {
+        this(directory, executor, DEFAULT_MAX_SIZE, 0);
+    }
+
+    /**
+     * Constructs a new {@link MappedResultStore}.
+     *
+     * @param directory the app-private directory
+     * @param executor the writes executor
+     * @param maxSize the limit of files size, in bytes
+     * @param maxAge the limit of files age in milliseconds, or 0 for never expire
+     */
+    public MappedResultStore(@NonNull File directory, @NonNull Executor executor,
+            long maxSize, long maxAge) {
+        if (maxSize < 0) throw new IllegalArgumentException("Negative size: " + maxSize);
+        if (maxAge < 0) throw new IllegalArgumentException("Negative age: " + maxAge);
+        mDirectory = directory; mExecutor = executor; mMaxSize = maxSize; mMaxAge = maxAge;
+    }
+
+    /** {@inheritDoc} */
+    @Nullable @Override @WorkerThread
+    public final Object get(@NonNull Object key) {
+        final String string = stringOf(key);
+        if (string == null) return null;
+        final String name = nameOf(string);
+        synchronized (mPending) {
+            final Object pending = mPending.get(name);
+            if (pending != null) return pending != REMOVED ? pending : null;
+        }
+        final File file = new File(mDirectory, name);
+        if (!file.exists()) return null;
+        if (isExpired(file)) {
+            //noinspection ResultOfMethodCallIgnored
+            file.delete();
+            return null;
+        }
+        try {
+            return read(file, string);
+        } catch (IOException | ClassNotFoundException | RuntimeException exception) {
+            Log.w(TAG, exception);
+            //noinspection ResultOfMethodCallIgnored
+            file.delete();
+            return null;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void put(@NonNull Object key, @NonNull Object value) {
+        if (value instanceof Serializable) schedule(key, value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void remove(@NonNull Object key) {schedule(key, REMOVED);}
+
+    /**
+     * @param key the load key
+     * @param value the result or {@link #REMOVED}
+     */
+    private void schedule(@NonNull Object key, @NonNull Object value) {
+        final String string = stringOf(key);
+        if (string == null) return;
+        final String name = nameOf(string);
+        synchronized (mPending) {mPending.put(name, value);}
+        mExecutor.execute(new Runnable() {
+            @Override
+            public final void run() {flush(name, string);}
+        });
+    }
+
+    /**
+     * Writes the latest pending result.
+     *
+     * @param name the file name
+     * @param key the key string
+     */
+    @WorkerThread
+    private void flush(@NonNull String name, @NonNull String key) {
+        synchronized (mWriteLock) {
+            final Object value;
+            synchronized (mPending) {value = mPending.get(name);}
+            if (value == null) return;
+            final File file = new File(mDirectory, name);
+            try {
+                if (value == REMOVED) {
+                    //noinspection ResultOfMethodCallIgnored
+                    file.delete();
+                } else {
+                    write(file, key, value);
+                    trim();
+                }
+            } catch (IOException | RuntimeException exception) {
+                Log.w(TAG, exception);
+            }
+            synchronized (mPending) {if (mPending.get(name) == value) mPending.remove(name);}
+        }
+    }
+
+    /**
+     * @param file the result file
+     * @return true if the file is older than the age limit
+     */
+    private boolean isExpired(@NonNull File file) {
+        return mMaxAge != 0 && System.currentTimeMillis() - file.lastModified() > mMaxAge;
+    }
+
+    /** Deletes the expired files and the oldest ones above the size limit, under the write lock. */
+    @WorkerThread
+    private void trim() {
+        final File[] files = mDirectory.listFiles();
+        if (files == null) return;
+        int count = 0;
+        long size = 0;
+        for (final File file : files) {
+            final String name = file.getName();
+            if (!name.startsWith(PREFIX)) continue;
+            // Temporary files are left by crashed writes only
+            if (name.endsWith(SUFFIX_TEMP) || isExpired(file)) {
+                //noinspection ResultOfMethodCallIgnored
+                file.delete();
+                continue;
+            }
+            size += file.length();
+            files[count++] = file;
+        }
+        if (size <= mMaxSize) return;
+        final File[] results = Arrays.copyOf(files, count);
+        Arrays.sort(results, new Comparator<File>() {
+            /** {@inheritDoc} */
+            @Override
+            public final int compare(@NonNull File first, @NonNull File second) {
+                final long a = first.lastModified(), b = second.lastModified();
+                return a < b ? -1 : a > b ? 1 : 0;
+            }
+        });
+        for (int i = 0; i < count && size > mMaxSize; i++) {
+            size -= results[i].length();
+            //noinspection ResultOfMethodCallIgnored
+            results[i].delete();
+        }
+    }
+
+    /**
+     * @param file the target file
+     * @param key the key string
+     * @param value the result
+     *
+     * @throws IOException if failed
+     */
+    @WorkerThread
+    private static void write(@NonNull File file, @NonNull String key, @NonNull Object value)
+            throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final ObjectOutputStream stream = new ObjectOutputStream(bytes);
+        stream.writeUTF(key);
+        stream.writeObject(value);
+        stream.close();
+
+        final File temp = new File(file.getPath() + SUFFIX_TEMP);
+        final RandomAccessFile output = new RandomAccessFile(temp, "rw");
+        try {
+            output.setLength(bytes.size());
+            final MappedByteBuffer buffer =
+                    output.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, bytes.size());
+            buffer.put(bytes.toByteArray());
+            buffer.force();
+        } finally {output.close();}
+        if (!temp.renameTo(file)) {
+            //noinspection ResultOfMethodCallIgnored
+            temp.delete();
+            throw new IOException("Can't rename " + temp);
+        }
+    }
+
+    /**
+     * @param file the source file
+     * @param key the expected key string
+     * @return the result, or null if the file belongs to another key
+     *
+     * @throws IOException if failed
+     * @throws ClassNotFoundException if the result class is missing
+     */
+    @Nullable
+    private static Object read(@NonNull File file, @NonNull String key)
+            throws IOException, ClassNotFoundException {
+        final RandomAccessFile input = new RandomAccessFile(file, "r");
+        final MappedByteBuffer buffer;
+        try {
+            buffer = input.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, input.length());
+        } finally {input.close();}
+        final ObjectInputStream stream = new ObjectInputStream(new BufferStream(buffer));
+        try {return key.equals(stream.readUTF()) ? stream.readObject() : null;}
+        finally {stream.close();}
+    }
+
+    /**
+     * @param key the load key
+     * @return the key string stable across processes, or null if the key has no one
+     */
+    @Nullable
+    private static String stringOf(@NonNull Object key) {
+        if (key instanceof LoadKey) return ((LoadKey) key).toStableString();
+        return key instanceof String ? (String) key : null;
+    }
+
+    /**
+     * @param key the stable key string
+     * @return the file name
+     */
+    @NonNull
+    private static String nameOf(@NonNull String key) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-1").digest(key.getBytes("UTF-8"));
+            final StringBuilder builder = new StringBuilder(PREFIX.length() + digest.length * 2);
+            builder.append(PREFIX);
+            for (final byte item : digest)
+                builder.append(Character.forDigit((item >> 4) & 0xF, 16))
+                        .append(Character.forDigit(item & 0xF, 16));
+            return builder.toString();
+        } catch (NoSuchAlgorithmException | IOException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /**
+     * The input stream of byte buffer.
+     *
+     * @author Nikitenko Gleb
+     * @since 1.0, 18/10/2026
+     */
+    private static final class BufferStream extends InputStream {
+
+        /** The source buffer. */
+        @NonNull private final ByteBuffer mBuffer;
+
+        /**
+         * Constructs a new {@link BufferStream}.
+         *
+         * @param buffer the source buffer
+         */
+        BufferStream(@NonNull ByteBuffer buffer) {mBuffer = buffer;}
+
+        /** {@inheritDoc} */
+        @Override
+        public final int read() {return mBuffer.hasRemaining() ? mBuffer.get() & 0xFF : -1;}
+
+        /** {@inheritDoc} */
+        @Override
+        public final int read(@NonNull byte[] bytes, int offset, int length) {
+            if (length == 0) return 0;
+            if (!mBuffer.hasRemaining()) return -1;
+            length = Math.min(length, mBuffer.remaining());
+            mBuffer.get(bytes, offset, length);
+            return length;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public final int available() {return mBuffer.remaining();}
+    }
+}
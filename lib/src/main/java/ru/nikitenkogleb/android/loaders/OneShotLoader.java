@@ -53,6 +53,11 @@ public abstract class OneShotLoader<T> extends BaseLoader<T> {
     /** The data was delivered. */
     private boolean mDelivered = false;
 
+    /** The result cache. */
+    @Nullable private ResultCache mCache = null;
+    /** The cached result is pending for delivery. */
+    private boolean mCached = false;
+
     /**
      * Constructs a new {@link OneShotLoader}.
      *
@@ -72,10 +77,34 @@ public abstract class OneShotLoader<T> extends BaseLoader<T> {
         super(context, executor, false);
     }
 
+    /**
+     * Enables the result cache. A cache hit by {@link #getKey()} is delivered in
+     * {@link #onStartLoading()}, without the background load.
+     *
+     * @param cache the process-level result cache, or null for disable
+     */
+    public final void setCache(@Nullable ResultCache cache) {
+        mCache = cache;
+    }
+
     /** {@inheritDoc} */
     @Override
     protected final void onDelivered(@Nullable T data, boolean isStarted) {
         mDelivered = true;
+        final Object key = !mCached && data != null && mCache != null ? getKey() : null;
+        if (key != null) {
+            mCache.put(key, data);
+        }
+        mCached = false;
+    }
+
+    /** {@inheritDoc} */
+    @Nullable @Override @SuppressWarnings("unchecked")
+    protected final T peekResult() {
+        final Object key = mCache != null ? getKey() : null;
+        final T result = key != null ? (T) mCache.get(key) : null;
+        mCached = result != null;
+        return result;
     }
 
     /** {@inheritDoc} */
@@ -84,10 +113,16 @@ public abstract class OneShotLoader<T> extends BaseLoader<T> {
         return mDelivered;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected final boolean isChanged(@NonNull T oldData, @Nullable T data) {
+        return true;
+    }
+
     /** {@inheritDoc} */
     @Override
     protected final boolean needLoad(@Nullable T data) {
-        return !mDelivered;
+        return !mDelivered && !mCached;
     }
 
     /** {@inheritDoc} */
@@ -0,0 +1,272 @@
+/*
+ * 	PagedCursorLoader.java
+ * 	app
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package ru.nikitenkogleb.android.loaders;
+
+import android.content.Context;
+import android.database.Cursor;
+import android.os.CancellationSignal;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.util.SparseArray;
+
+import java.util.concurrent.Executor;
+
+import proguard.annotation.Keep;
+import proguard.annotation.KeepPublicProtectedClassMembers;
+
+/**
+ * The {@link StableLoader} of query result by fixed-size pages.
+ * <p>
+ * The first load delivers the visible pages only. Then the loader prefetches the neighbouring
+ * pages of the reported visible range one by one, delivering each. The pages far from the
+ * visible range are evicted, when the count of loaded pages exceeds the limit.
+ * A content change reloads the visible pages.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+@Keep@KeepPublicProtectedClassMembers
+@SuppressWarnings({"WeakerAccess", "unused"})
+public abstract class PagedCursorLoader extends StableLoader<CursorPages> {
+
+    /** The page size, in rows. */
+    private final int mPageSize;
+    /** The count of pages to prefetch on each side of visible range. */
+    private final int mPrefetch;
+    /** The maximal count of loaded pages. */
+    private final int mMaxPages;
+
+    /** The first visible row. */
+    private volatile int mFirstVisible = 0;
+    /** The last visible row. */
+    private volatile int mLastVisible = 0;
+    /** The content generation. */
+    private volatile int mGeneration = 0;
+    /** The last delivered pages. */
+    @Nullable private volatile CursorPages mCurrent = null;
+
+    /** The prefetch of the next page. */
+    private final Runnable mPrefetchNext = new Runnable() {
+        /** {@inheritDoc} */
+        @Override
+        public final void run() {prefetch();}
+    };
+
+    /**
+     * Constructs a new {@link PagedCursorLoader}.
+     *
+     * @param context the activity-context
+     * @param pageSize the page size, in rows
+     * @param prefetch the count of pages to prefetch on each side of visible range
+     * @param maxPages the maximal count of loaded pages
+     */
+    public PagedCursorLoader(@NonNull Context context, int pageSize, int prefetch, int maxPages) {
+        super(context);
+        mPageSize = pageSize; mPrefetch = prefetch; mMaxPages = maxPages; checkArgs();
+    }
+
+    /**
+     * Constructs a new {@link PagedCursorLoader}.
+     *
+     * @param context  the activity-context
+     * @param executor the runtime executor
+     * @param pageSize the page size, in rows
+     * @param prefetch the count of pages to prefetch on each side of visible range
+     * @param maxPages the maximal count of loaded pages
+     */
+    public PagedCursorLoader(@NonNull Context context, @NonNull Executor executor,
+            int pageSize, int prefetch, int maxPages) {
+        super(context, executor);
+        mPageSize = pageSize; mPrefetch = prefetch; mMaxPages = maxPages; checkArgs();
+    }
+
+    /** Validates the paging params. */
+    private void checkArgs() {
+        if (mPageSize < 1) throw new IllegalArgumentException("Page size: " + mPageSize);
+        if (mPrefetch < 0) throw new IllegalArgumentException("Prefetch: " + mPrefetch);
+        if (mMaxPages < 1 + 2 * mPrefetch)
+            throw new IllegalArgumentException("Max pages less than prefetch: " + mMaxPages);
+    }
+
+    /**
+     * Reports the visible rows, on the main thread.
+     *
+     * @param first the first visible row
+     * @param last the last visible row
+     */
+    public final void setVisibleRange(int first, int last) {
+        if (first < 0 || last < first)
+            throw new IllegalArgumentException("Wrong range: " + first + ".." + last);
+        mFirstVisible = first; mLastVisible = last;
+        prefetch();
+    }
+
+    /** Starts the load of the next missing page, if any. */
+    private void prefetch() {
+        final CursorPages current = mCurrent;
+        if (isStarted() && !isInFlight() && current != null &&
+                (current.generation != mGeneration || nextMissing(current.pages, current.count) != -1))
+            forceLoad();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    final void onReload() {mGeneration++;}
+
+    /** {@inheritDoc} */
+    @Nullable @Override
+    protected final CursorPages loadInBackground(@NonNull CancellationSignal signal) {
+        final int generation = mGeneration;
+        final CursorPages base = mCurrent;
+        final int first = mFirstVisible / mPageSize, last = mLastVisible / mPageSize;
+        final SparseArray<Cursor> pages = new SparseArray<>();
+        final SparseArray<Cursor> loaded = new SparseArray<>();
+        int count = -1;
+
+        try {
+            if (base != null && base.generation == generation) {
+                count = base.count;
+                for (int i = 0; i < base.pages.size(); i++)
+                    pages.append(base.pages.keyAt(i), base.pages.valueAt(i));
+                final int page = nextMissing(pages, count);
+                if (page == -1) return base;
+                final int rows = loadPage(page, pages, loaded, signal);
+                if (rows != -1) count = rows;
+            } else {
+                for (int page = first; page <= last && count == -1; page++)
+                    count = loadPage(page, pages, loaded, signal);
+            }
+        } catch (RuntimeException | Error exception) {
+            for (int i = 0; i < loaded.size(); i++) loaded.valueAt(i).close();
+            throw exception;
+        }
+
+        while (pages.size() > mMaxPages) {
+            // The visible and prefetched pages are never evicted
+            int farthest = -1, distance = mPrefetch;
+            for (int i = 0; i < pages.size(); i++) {
+                final int page = pages.keyAt(i);
+                final int current = page < first ? first - page : page > last ? page - last : 0;
+                if (current > distance) {distance = current; farthest = i;}
+            }
+            if (farthest == -1) break;
+            final Cursor evicted = pages.valueAt(farthest);
+            pages.removeAt(farthest);
+            if (loaded.indexOfValue(evicted) >= 0) evicted.close();
+        }
+        return new CursorPages(mPageSize, generation, pages, count);
+    }
+
+    /**
+     * Loads the page.
+     *
+     * @param page the page index
+     * @param pages the pages to put
+     * @param loaded the loaded pages to put
+     * @param signal the cancellation signal
+     *
+     * @return the exact count of rows if it is the last page, or -1
+     */
+    private int loadPage(int page, @NonNull SparseArray<Cursor> pages,
+            @NonNull SparseArray<Cursor> loaded, @NonNull CancellationSignal signal) {
+        signal.throwIfCanceled();
+        final int offset = page * mPageSize;
+        final Cursor cursor = loadPage(offset, mPageSize, signal);
+        // No page is stored, so the rows end before it
+        if (cursor == null) return offset;
+        cursor.registerContentObserver(contentObserver);
+        pages.put(page, cursor); loaded.put(page, cursor);
+        final int rows = cursor.getCount();
+        return rows < mPageSize ? offset + rows : -1;
+    }
+
+    /**
+     * @param pages the loaded pages
+     * @param count the exact count of rows, or -1 if unknown
+     *
+     * @return the missing page nearest to the visible range, or -1
+     *         if the pages within {@link #mMaxPages} are loaded
+     */
+    private int nextMissing(@NonNull SparseArray<Cursor> pages, int count) {
+        final int first = mFirstVisible / mPageSize, last = mLastVisible / mPageSize;
+        final int limit = count != -1 ? (count + mPageSize - 1) / mPageSize - 1 : Integer.MAX_VALUE;
+        int budget = mMaxPages;
+        for (int page = first; page <= last && page <= limit; page++) {
+            if (budget-- == 0) return -1;
+            if (pages.get(page) == null) return page;
+        }
+        for (int distance = 1; distance <= mPrefetch; distance++) {
+            final int after = last + distance, before = first - distance;
+            if (after <= limit) {
+                if (budget-- == 0) return -1;
+                if (pages.get(after) == null) return after;
+            }
+            if (before >= 0 && before <= limit) {
+                if (budget-- == 0) return -1;
+                if (pages.get(before) == null) return before;
+            }
+        }
+        return -1;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void onDelivered(@Nullable CursorPages data, boolean isStarted) {
+        super.onDelivered(data, isStarted);
+        mCurrent = data;
+        HANDLER.post(mPrefetchNext);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final void release(@NonNull CursorPages data) {
+        super.release(data);
+        data.closeExcept(mCurrent);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void onReset() {
+        HANDLER.removeCallbacks(mPrefetchNext);
+        mCurrent = null;
+        super.onReset();
+    }
+
+    /**
+     * Background loading of the page, by LIMIT/OFFSET or keyset query.
+     *
+     * @param offset the offset of page, in rows
+     * @param limit the page size, in rows
+     * @param signal the cancellation signal
+     *
+     * @return the page cursor, or null when no more rows
+     */
+    @Nullable
+    protected abstract Cursor loadPage(int offset, int limit, @NonNull CancellationSignal signal);
+}
@@ -0,0 +1,150 @@
+/*
+ * 	PipelineLoader.java
+ * 	app
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package ru.nikitenkogleb.android.loaders;
+
+import android.content.Context;
+import android.os.CancellationSignal;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.WorkerThread;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import proguard.annotation.Keep;
+import proguard.annotation.KeepPublicProtectedClassMembers;
+
+/**
+ * The One-Shot Loader of dependent stages.
+ * <p>
+ * Each stage consumes the result of previous one in the same background load, without
+ * main-thread round-trips and executor re-queues. The results of publishing stages are
+ * delivered to {@link LoaderManager#onLoadProgress(int, Object)} as the list of stage
+ * results so far, with nulls for not publishing ones. The result of last stage is the
+ * loader result. Cancellation of the load interrupts the chain between stages and is
+ * visible to each stage by its signal.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+@Keep@KeepPublicProtectedClassMembers
+@SuppressWarnings({"WeakerAccess", "unused"})
+public class PipelineLoader extends OneShotLoader<Object> {
+
+    /** The stages. */
+    @NonNull private final Stage[] mStages;
+
+    /**
+     * Constructs a new {@link PipelineLoader}.
+     *
+     * @param context the activity-context
+     * @param stages the stages in order
+     */
+    public PipelineLoader(@NonNull Context context, @NonNull Stage... stages) {
+        super(context);
+        mStages = checkStages(stages);
+    }
+
+    /**
+     * Constructs a new {@link PipelineLoader}.
+     *
+     * @param context the activity-context
+     * @param executor the runtime executor
+     * @param stages the stages in order
+     */
+    public PipelineLoader(@NonNull Context context, @NonNull Executor executor,
+            @NonNull Stage... stages) {
+        super(context, executor);
+        mStages = checkStages(stages);
+    }
+
+    /** {@inheritDoc} */
+    @Nullable @Override
+    protected final Object loadInBackground(@NonNull CancellationSignal cancellationSignal) {
+        final Object[] published = new Object[mStages.length];
+        Object result = null;
+        for (int i = 0; i < mStages.length; i++) {
+            cancellationSignal.throwIfCanceled();
+            final Stage stage = mStages[i];
+            result = stage.run(result, cancellationSignal);
+            if (stage.mPublish && i < mStages.length - 1) {
+                published[i] = result;
+                publishProgress(Collections.unmodifiableList
+                        (Arrays.asList(Arrays.copyOf(published, i + 1))));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param stages the stages in order
+     * @return the checked stages
+     */
+    @NonNull
+    private static Stage[] checkStages(@NonNull Stage[] stages) {
+        if (stages.length == 0) throw new IllegalArgumentException("No stages");
+        for (final Stage stage : stages)
+            if (stage == null) throw new NullPointerException("Null stage");
+        return stages.clone();
+    }
+
+    /**
+     * The stage of pipeline.
+     *
+     * @author Nikitenko Gleb
+     * @since 1.0, 18/10/2026
+     */
+    @Keep@KeepPublicProtectedClassMembers
+    public static abstract class Stage {
+
+        /** Publish the result, flag. */
+        private final boolean mPublish;
+
+        /**
+         * Constructs a new {@link Stage}.
+         *
+         * @param publish true for publish the stage result to UI
+         */
+        public Stage(boolean publish) {mPublish = publish;}
+
+        /**
+         * Runs the stage on the loading thread.
+         *
+         * @param input the previous stage result, or null for first stage
+         * @param cancellationSignal the load cancellation signal
+         *
+         * @return the stage result
+         */
+        @WorkerThread @Nullable
+        protected abstract Object run(@Nullable Object input,
+                @NonNull CancellationSignal cancellationSignal);
+    }
+}
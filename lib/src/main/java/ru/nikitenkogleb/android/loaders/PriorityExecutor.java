@@ -0,0 +1,282 @@
+/*
+ * 	PriorityExecutor.java
+ * 	app
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package ru.nikitenkogleb.android.loaders;
+
+import android.support.annotation.IntDef;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.PriorityQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import proguard.annotation.Keep;
+import proguard.annotation.KeepPublicProtectedClassMembers;
+
+/**
+ * The priority-aware loader scheduler.
+ * <p>
+ * Runs submitted loads on the delegate executor, but not more than {@link #getLimit()} at a
+ * time. The queued loads are ordered by deadline - the enqueue time plus the slack of their
+ * lane. So an interactive load jumps ahead of the queued background work, while the background
+ * load is never delayed longer than the slack of its lane and can't starve.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+@Keep@KeepPublicProtectedClassMembers
+@SuppressWarnings({"WeakerAccess", "unused"})
+public class PriorityExecutor implements Executor {
+
+    /** The interactive lane (visible-screen loads). */
+    public static final int PRIORITY_INTERACTIVE = 0;
+    /** The normal lane. */
+    public static final int PRIORITY_NORMAL = 1;
+    /** The background lane (refreshes, prefetches). */
+    public static final int PRIORITY_BACKGROUND = 2;
+
+    /** The default lane slacks, in milliseconds. */
+    private static final long[] DEFAULT_SLACKS = {0L, 200L, 2000L};
+
+    /** The delegate executor. */
+    @NonNull private final Executor mDelegate;
+    /** The lane slacks, in nanoseconds. */
+    @NonNull private final long[] mSlacks;
+
+    /** The queued tasks. */
+    private final PriorityQueue<Task> mQueue = new PriorityQueue<>();
+
+    /** The concurrency limit. */
+    private int mLimit;
+    /** The count of running tasks. */
+    private int mRunning = 0;
+    /** The enqueue sequence. */
+    private long mSequence = 0;
+    /** The count of holds. */
+    private int mHolds = 0;
+
+    /**
+     * Constructs a new {@link PriorityExecutor} with the available processors limit.
+     *
+     * @param delegate the delegate executor
+     */
+    public PriorityExecutor(@NonNull Executor delegate) {
+        this(delegate, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a new {@link PriorityExecutor} with the default lane slacks.
+     *
+     * @param delegate the delegate executor
+     * @param limit the concurrency limit
+     */
+    public PriorityExecutor(@NonNull Executor delegate, int limit) {
+        this(delegate, limit, DEFAULT_SLACKS);
+    }
+
+    /**
+     * Constructs a new {@link PriorityExecutor}.
+     *
+     * @param delegate the delegate executor
+     * @param limit the concurrency limit
+     * @param slacks the slacks of interactive, normal and background lanes, in milliseconds
+     */
+    public PriorityExecutor(@NonNull Executor delegate, int limit, @NonNull long[] slacks) {
+        if (limit < 1) throw new IllegalArgumentException("Limit must be positive: " + limit);
+        if (slacks.length != DEFAULT_SLACKS.length)
+            throw new IllegalArgumentException("Slacks required for each lane");
+        mDelegate = delegate; mLimit = limit; mSlacks = new long[slacks.length];
+        for (int i = 0; i < slacks.length; i++)
+            mSlacks[i] = TimeUnit.MILLISECONDS.toNanos(slacks[i]);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void execute(@NonNull Runnable command) {
+        execute(command, PRIORITY_NORMAL);
+    }
+
+    /**
+     * Executes the command in the given lane.
+     *
+     * @param command the runnable task
+     * @param priority the lane priority
+     */
+    public final void execute(@NonNull Runnable command, @Priority int priority) {
+        execute(command, priority, null);
+    }
+
+    /**
+     * Executes the command of the given kind in the given lane.
+     *
+     * @param command the runnable task
+     * @param priority the lane priority
+     * @param kind the kind of task, passed to {@link #onCompleted(Object, long, int)}, or null
+     */
+    public final void execute(@NonNull Runnable command, @Priority int priority,
+            @Nullable Object kind) {
+        if (priority < PRIORITY_INTERACTIVE || priority > PRIORITY_BACKGROUND)
+            throw new IllegalArgumentException("Unknown priority: " + priority);
+        final long deadline = System.nanoTime() + mSlacks[priority];
+        synchronized (this) {
+            mQueue.add(new Task(command, kind, deadline, mSequence++));
+        }
+        drain();
+    }
+
+    /** @return the current concurrency limit */
+    public final synchronized int getLimit() {return mLimit;}
+
+    /** @return the count of queued tasks */
+    public final synchronized int getQueueDepth() {return mQueue.size();}
+
+    /** @return the count of running tasks */
+    public final synchronized int getRunning() {return mRunning;}
+
+    /** @param limit the new concurrency limit */
+    public final void setLimit(int limit) {
+        if (limit < 1) throw new IllegalArgumentException("Limit must be positive: " + limit);
+        synchronized (this) {
+            mLimit = limit;
+        }
+        drain();
+    }
+
+    /** Holds the submission of queued tasks, so the next ones are ordered together. */
+    final synchronized void hold() {mHolds++;}
+
+    /** Resumes the submission of queued tasks. */
+    final void resume() {
+        synchronized (this) {
+            if (mHolds == 0) throw new IllegalStateException("Not held");
+            mHolds--;
+        }
+        drain();
+    }
+
+    /** Submits the queued tasks while the limit allows. */
+    private void drain() {
+        while (true) {
+            final Task task;
+            synchronized (this) {
+                if (mHolds > 0 || mRunning >= mLimit || mQueue.isEmpty()) return;
+                task = mQueue.poll(); mRunning++;
+            }
+            try {
+                mDelegate.execute(task);
+            } catch (RejectedExecutionException exception) {
+                synchronized (this) {
+                    mRunning--;
+                }
+                throw exception;
+            }
+        }
+    }
+
+    /**
+     * Calls by each task completion.
+     *
+     * @param kind the kind of task, or null
+     * @param latency the running time, in nanoseconds
+     */
+    private void onFinished(@Nullable Object kind, long latency) {
+        final int running;
+        synchronized (this) {
+            running = mRunning--;
+        }
+        onCompleted(kind, latency, running);
+        drain();
+    }
+
+    /**
+     * Calls by each task completion, before the next queued tasks are submitted.
+     *
+     * @param kind the kind of task, or null
+     * @param latency the running time of the task, in nanoseconds
+     * @param running the count of running tasks, including the completed one
+     */
+    protected void onCompleted(@Nullable Object kind, long latency, int running) {}
+
+    /** The priority definition. */
+    @Retention(RetentionPolicy.SOURCE)
+    @IntDef({PRIORITY_INTERACTIVE, PRIORITY_NORMAL, PRIORITY_BACKGROUND})
+    public @interface Priority {}
+
+    /**
+     * The queued task.
+     *
+     * @author Nikitenko Gleb
+     * @since 1.0, 18/10/2026
+     */
+    private final class Task implements Runnable, Comparable<Task> {
+
+        /** The command. */
+        @NonNull private final Runnable mCommand;
+        /** The kind of task. */
+        @Nullable private final Object mKind;
+        /** The deadline. */
+        private final long mDeadline;
+        /** The enqueue sequence. */
+        private final long mSequence;
+
+        /**
+         * Constructs a new {@link Task}.
+         *
+         * @param command the command
+         * @param kind the kind of task, or null
+         * @param deadline the deadline
+         * @param sequence the enqueue sequence
+         */
+        Task(@NonNull Runnable command, @Nullable Object kind, long deadline, long sequence) {
+            mCommand = command; mKind = kind; mDeadline = deadline; mSequence = sequence;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public final void run() {
+            final long start = System.nanoTime();
+            try {
+                mCommand.run();
+            } finally {
+                onFinished(mKind, System.nanoTime() - start);
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public final int compareTo(@NonNull Task task) {
+            final long delta = mDeadline - task.mDeadline;
+            return delta != 0 ? (delta < 0 ? -1 : 1) :
+                    (mSequence < task.mSequence ? -1 : (mSequence == task.mSequence ? 0 : 1));
+        }
+    }
+}
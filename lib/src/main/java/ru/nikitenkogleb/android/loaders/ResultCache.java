@@ -0,0 +1,156 @@
+/*
+ * 	ResultCache.java
+ * 	app
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package ru.nikitenkogleb.android.loaders;
+
+import android.os.SystemClock;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.v4.util.LruCache;
+
+import proguard.annotation.Keep;
+import proguard.annotation.KeepPublicProtectedClassMembers;
+
+/**
+ * The process-level cache of load results.
+ * <p>
+ * Keeps the results by {@link LoadKey} with LRU eviction. Each entry costs {@link #sizeOf}
+ * units of the cache capacity (one by default) and optionally expires after the time-to-live.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+@Keep@KeepPublicProtectedClassMembers
+@SuppressWarnings({"WeakerAccess", "unused"})
+public class ResultCache implements ResultStore {
+
+    /** The entries. */
+    @NonNull private final LruCache<Object, Entry> mEntries;
+    /** The time-to-live, in milliseconds. */
+    private final long mTimeToLive;
+
+    /**
+     * Constructs a new {@link ResultCache} without expiration.
+     *
+     * @param maxSize the capacity, in {@link #sizeOf} units
+     */
+    public ResultCache(int maxSize) {
+        this(maxSize, 0);
+    }
+
+    /**
+     * Constructs a new {@link ResultCache}.
+     *
+     * @param maxSize the capacity, in {@link #sizeOf} units
+     * @param timeToLive the time-to-live in milliseconds, or 0 for never expire
+     */
+    public ResultCache(int maxSize, long timeToLive) {
+        if (timeToLive < 0)
+            throw new IllegalArgumentException("Negative time-to-live: " + timeToLive);
+        mTimeToLive = timeToLive;
+        mEntries = new LruCache<Object, Entry>(maxSize) {
+            /** {@inheritDoc} */
+            @Override
+            protected final int sizeOf(@NonNull Object key, @NonNull Entry entry) {
+                return entry.size;
+            }
+        };
+    }
+
+    /** {@inheritDoc} */
+    @Nullable @Override
+    public final Object get(@NonNull Object key) {
+        final Entry entry = mEntries.get(key);
+        if (entry == null) return null;
+        if (entry.expiry != 0 && entry.expiry <= SystemClock.uptimeMillis()) {
+            mEntries.remove(key);
+            return null;
+        }
+        return entry.value;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void put(@NonNull Object key, @NonNull Object value) {
+        final long expiry = mTimeToLive != 0 ? SystemClock.uptimeMillis() + mTimeToLive : 0;
+        mEntries.put(key, new Entry(value, expiry, sizeOf(key, value)));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void remove(@NonNull Object key) {
+        mEntries.remove(key);
+    }
+
+    /** Evicts all entries. */
+    public final void clear() {
+        mEntries.evictAll();
+    }
+
+    /** @return the size of cached entries, in {@link #sizeOf} units */
+    public final int size() {return mEntries.size();}
+
+    /**
+     * Measures the cache entry.
+     *
+     * @param key the load key
+     * @param value the result
+     *
+     * @return the entry size, in units of the cache capacity
+     */
+    protected int sizeOf(@NonNull Object key, @NonNull Object value) {
+        return 1;
+    }
+
+    /**
+     * The cache entry.
+     *
+     * @author Nikitenko Gleb
+     * @since 1.0, 18/10/2026
+     */
+    private static final class Entry {
+
+        /** The result. */
+        @NonNull final Object value;
+        /** The expiration uptime, or 0. */
+        final long expiry;
+        /** The entry size. */
+        final int size;
+
+        /**
+         * Constructs a new {@link Entry}.
+         *
+         * @param value the result
+         * @param expiry the expiration uptime
+         * @param size the entry size
+         */
+        Entry(@NonNull Object value, long expiry, int size) {
+            this.value = value; this.expiry = expiry; this.size = size;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * 	RetryPolicy.java
+ * 	app
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package ru.nikitenkogleb.android.loaders;
+
+import android.support.annotation.NonNull;
+
+import java.util.Random;
+
+import proguard.annotation.Keep;
+import proguard.annotation.KeepPublicProtectedClassMembers;
+
+/**
+ * The retry policy of failed loads.
+ * <p>
+ * Exponential backoff with full jitter: the delay of each retry is uniformly random
+ * between zero and the doubled cap of previous one, so loaders failed together
+ * don't retry together.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+@Keep@KeepPublicProtectedClassMembers
+@SuppressWarnings({"WeakerAccess", "unused"})
+public class RetryPolicy {
+
+    /** The jitter source. */
+    private static final Random RANDOM = new Random();
+
+    /** The maximum count of retries. */
+    private final int mMaxRetries;
+    /** The cap of first retry delay, in milliseconds. */
+    private final long mBaseDelay;
+    /** The maximum cap of retry delay, in milliseconds. */
+    private final long mMaxDelay;
+
+    /**
+     * Constructs a new {@link RetryPolicy}.
+     *
+     * @param maxRetries the maximum count of retries
+     * @param baseDelay the cap of first retry delay, in milliseconds
+     * @param maxDelay the maximum cap of retry delay, in milliseconds
+     */
+    public RetryPolicy(int maxRetries, long baseDelay, long maxDelay) {
+        if (maxRetries < 0 || baseDelay < 0 || maxDelay < baseDelay)
+            throw new IllegalArgumentException("Wrong policy: " +
+                    maxRetries + ", " + baseDelay + ", " + maxDelay);
+        mMaxRetries = maxRetries; mBaseDelay = baseDelay; mMaxDelay = maxDelay;
+    }
+
+    /**
+     * @param attempt the count of retries made already
+     * @param error the load failure
+     * @return the retry delay in milliseconds, or -1 for deliver the failure
+     */
+    public final long getDelay(int attempt, @NonNull Throwable error) {
+        if (attempt >= mMaxRetries || !isRetryable(error)) return -1;
+        final long cap = attempt >= 63 || mBaseDelay > mMaxDelay >> attempt ?
+                mMaxDelay : mBaseDelay << attempt;
+        synchronized (RANDOM) {return (long) (RANDOM.nextDouble() * (cap + 1.0));}
+    }
+
+    /**
+     * @param error the load failure
+     * @return true for retry the load, by default always
+     */
+    protected boolean isRetryable(@NonNull Throwable error) {return true;}
+}
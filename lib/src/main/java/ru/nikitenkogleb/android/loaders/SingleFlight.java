@@ -0,0 +1,169 @@
+/*
+ * 	SingleFlight.java
+ * 	app
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package ru.nikitenkogleb.android.loaders;
+
+import android.os.CancellationSignal;
+import android.os.OperationCanceledException;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.HashMap;
+
+/**
+ * The process-wide de-duplication of identical in-flight loads.
+ * <p>
+ * The first load by a key runs the computation, the next identical loads attach to it and
+ * receive the same result. The shared computation is cancelled only when every subscriber
+ * has cancelled.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+final class SingleFlight {
+
+    /** The in-flight computations. */
+    private static final HashMap<Object, Flight> FLIGHTS = new HashMap<>();
+
+    /**
+     * The caller should be prevented from instantiating.
+     *
+     * @throws AssertionError when trying to instantiate
+     */
+    private SingleFlight() {throw new AssertionError();}
+
+    /**
+     * Runs the load or attaches to the identical one in flight.
+     *
+     * @param key the load key
+     * @param loader the loader
+     * @param signal the cancellation signal of this load
+     *
+     * @return the shared result
+     */
+    @Nullable @SuppressWarnings("unchecked")
+    static <T> T load(@NonNull Object key, @NonNull BaseLoader<T> loader,
+            @NonNull CancellationSignal signal) {
+        final Flight flight; final boolean leader;
+        synchronized (FLIGHTS) {
+            final Flight current = FLIGHTS.get(key);
+            leader = current == null;
+            flight = leader ? new Flight(key) : current;
+            if (leader) FLIGHTS.put(key, flight);
+            flight.subscribers++;
+        }
+
+        signal.setOnCancelListener(new CancellationSignal.OnCancelListener() {
+            /** {@inheritDoc} */
+            @Override
+            public final void onCancel() {flight.unsubscribe();}
+        });
+
+        try {
+            if (leader) flight.run(loader);
+            else flight.await(signal);
+        } finally {
+            signal.setOnCancelListener(null);
+        }
+
+        signal.throwIfCanceled();
+        if (flight.error instanceof RuntimeException) throw (RuntimeException) flight.error;
+        if (flight.error instanceof Error) throw (Error) flight.error;
+        return (T) flight.result;
+    }
+
+    /**
+     * The shared computation.
+     *
+     * @author Nikitenko Gleb
+     * @since 1.0, 18/10/2026
+     */
+    private static final class Flight {
+
+        /** The load key. */
+        @NonNull final Object key;
+        /** The shared cancellation signal. */
+        final CancellationSignal signal = new CancellationSignal();
+
+        /** The count of not-cancelled subscribers. */
+        int subscribers = 0;
+        /** The computation is done. */
+        boolean done = false;
+        /** The result. */
+        @Nullable Object result = null;
+        /** The failure. */
+        @Nullable Throwable error = null;
+
+        /**
+         * Constructs a new {@link Flight}.
+         *
+         * @param key the load key
+         */
+        Flight(@NonNull Object key) {this.key = key;}
+
+        /** @param loader the loader for computation */
+        final void run(@NonNull BaseLoader<?> loader) {
+            Object result = null; Throwable error = null;
+            try {
+                result = loader.loadInBackground(signal);
+            } catch (RuntimeException | Error throwable) {
+                error = throwable;
+            }
+            synchronized (FLIGHTS) {
+                this.result = result; this.error = error; done = true;
+                if (FLIGHTS.get(key) == this) FLIGHTS.remove(key);
+                FLIGHTS.notifyAll();
+            }
+        }
+
+        /** @param signal the subscriber's cancellation signal */
+        final void await(@NonNull CancellationSignal signal) {
+            synchronized (FLIGHTS) {
+                while (!done && !signal.isCanceled()) {
+                    try {
+                        FLIGHTS.wait();
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                        throw new OperationCanceledException(exception.getMessage());
+                    }
+                }
+            }
+        }
+
+        /** Calls by subscriber's cancellation. */
+        final void unsubscribe() {
+            final boolean abandoned;
+            synchronized (FLIGHTS) {
+                abandoned = --subscribers == 0 && !done;
+                if (abandoned && FLIGHTS.get(key) == this) FLIGHTS.remove(key);
+                FLIGHTS.notifyAll();
+            }
+            if (abandoned) signal.cancel();
+        }
+    }
+}
@@ -30,7 +30,10 @@ package ru.nikitenkogleb.android.loaders;
 
 import android.content.Context;
 import android.database.Cursor;
+import android.net.Uri;
+import android.os.Build;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 
 import java.util.concurrent.Executor;
 
@@ -47,6 +50,11 @@ import proguard.annotation.KeepPublicProtectedClassMembers;
 @Keep@KeepPublicProtectedClassMembers
 public abstract class StableCursorLoader extends StableLoader<Object> {
 
+    /** Deliver snapshots instead of cursors, flag. */
+    private volatile boolean mSnapshot = false;
+    /** The content observer is registered on the notification uri. */
+    private boolean mObserving = false;
+
     /**
      * Constructs a new {@link StableCursorLoader}.
      *
@@ -66,24 +74,80 @@ public abstract class StableCursorLoader extends StableLoader<Object> {
         super(context, executor);
     }
 
+    /**
+     * Enables the snapshot mode: each loaded cursor is copied to {@link CursorSnapshot} in
+     * background and closed immediately. The content is observed by the notification uri,
+     * see {@link #getNotificationUri(Cursor)}.
+     *
+     * @param snapshot true for deliver snapshots instead of cursors
+     */
+    public final void setSnapshot(boolean snapshot) {
+        mSnapshot = snapshot;
+    }
+
     /** {@inheritDoc} */
     @Override
     protected final Object onLoadInBackground() {
         final Object object = super.onLoadInBackground();
-        if (object != null && object instanceof Cursor) {
+        if (object != null && object instanceof Cursor && !(object instanceof CursorSnapshot)) {
             final Cursor result = (Cursor) object;
-            result.registerContentObserver(contentObserver);
-            return result;
+            if (!mSnapshot) {
+                result.registerContentObserver(contentObserver);
+                return result;
+            }
+            try {
+                observe(getNotificationUri(result));
+                return CursorSnapshot.of(result);
+            } finally {
+                result.close();
+            }
         }
         return object;
     }
 
+    /** @param uri the notification uri for observe, or null */
+    private synchronized void observe(@Nullable Uri uri) {
+        if (uri != null && !mObserving) {
+            getContext().getContentResolver().registerContentObserver(uri, true, contentObserver);
+            mObserving = true;
+        }
+    }
+
+    /**
+     * @param cursor the loaded cursor
+     * @return the uri of content to observe in snapshot mode, or null
+     */
+    @Nullable
+    protected Uri getNotificationUri(@NonNull Cursor cursor) {
+        return Build.VERSION.SDK_INT >= Build.VERSION_CODES.KITKAT ?
+                cursor.getNotificationUri() : null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean isSame(@NonNull Object stale, @NonNull Object fresh) {
+        return stale instanceof CursorSnapshot && fresh instanceof Cursor ?
+                ((CursorSnapshot) stale).contentEquals((Cursor) fresh) : super.isSame(stale, fresh);
+    }
+
     /** {@inheritDoc} */
     @Override
     protected final void release(@NonNull Object data) {
         super.release(data);
-        if (data instanceof Cursor) {
+        if (data instanceof Cursor && !(data instanceof CursorSnapshot)) {
             ((Cursor)data).close();
         }
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void onReset() {
+        super.onReset();
+        synchronized (this) {
+            if (mObserving) {
+                getContext().getContentResolver().unregisterContentObserver(contentObserver);
+                mObserving = false;
+            }
+        }
+    }
 }
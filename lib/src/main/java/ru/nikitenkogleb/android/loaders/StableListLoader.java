@@ -0,0 +1,107 @@
+/*
+ * 	StableListLoader.java
+ * 	app
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package ru.nikitenkogleb.android.loaders;
+
+import android.content.Context;
+import android.os.CancellationSignal;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import proguard.annotation.Keep;
+import proguard.annotation.KeepPublicProtectedClassMembers;
+
+/**
+ * The {@link StableLoader} of lists, which delivers each list with the keyed difference from
+ * the previously delivered one. The difference is computed in background.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+@Keep@KeepPublicProtectedClassMembers
+@SuppressWarnings({"WeakerAccess", "unused"})
+public abstract class StableListLoader<E> extends StableLoader<ListResult<E>>
+        implements Diff.Callback<E> {
+
+    /** The previously delivered items. */
+    @Nullable private volatile List<E> mPrevious = null;
+
+    /**
+     * Constructs a new {@link StableListLoader}.
+     *
+     * @param context the activity-context
+     */
+    public StableListLoader(@NonNull Context context) {
+        super(context);
+    }
+
+    /**
+     * Constructs a new {@link StableListLoader}.
+     *
+     * @param context  the activity-context
+     * @param executor the runtime executor
+     */
+    public StableListLoader(@NonNull Context context, @NonNull Executor executor) {
+        super(context, executor);
+    }
+
+    /** {@inheritDoc} */
+    @Nullable @Override
+    protected final ListResult<E> loadInBackground(@NonNull CancellationSignal signal) {
+        final List<E> items = loadListInBackground(signal);
+        final List<E> base = mPrevious;
+        return items != null ? new ListResult<>(items, base,
+                Diff.compute(base, items, this, signal)) : null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void onDelivered(@Nullable ListResult<E> data, boolean isStarted) {
+        super.onDelivered(data, isStarted);
+        if (data != null) {
+            // The snapshot may be delivered after the difference was computed
+            if (!isStarted || isStale() || !data.isBasedOn(mPrevious)) data.clearDiff();
+            mPrevious = data.getItems();
+        } else {
+            mPrevious = null;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean areContentsSame(@NonNull E oldItem, @NonNull E newItem) {
+        return oldItem.equals(newItem);
+    }
+
+    /** Background loading of the list. */
+    @Nullable
+    protected abstract List<E> loadListInBackground(@NonNull CancellationSignal signal);
+}
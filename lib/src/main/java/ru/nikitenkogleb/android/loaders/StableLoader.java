@@ -29,9 +29,16 @@
 package ru.nikitenkogleb.android.loaders;
 
 import android.content.Context;
+import android.os.AsyncTask;
+import android.support.annotation.IntDef;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
+import android.support.annotation.WorkerThread;
 
+import java.io.Closeable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
 import java.util.concurrent.Executor;
 
 import proguard.annotation.Keep;
@@ -47,9 +54,55 @@ import proguard.annotation.KeepPublicProtectedClassMembers;
 @Keep@KeepPublicProtectedClassMembers
 public abstract class StableLoader<T> extends BaseLoader<T> {
 
+    /** Each content change cancels and restarts the load in flight. */
+    public static final int POLICY_RESTART = 0;
+    /** Content changes during a load collapse into one trailing reload. */
+    public static final int POLICY_CONFLATE = 1;
+
     /** The content observer. */
     protected final ForceLoadContentObserver contentObserver = new ForceLoadContentObserver();
 
+    /** The last known snapshots. */
+    @Nullable private ResultStore mSnapshots = null;
+    /** The snapshot pending for delivery. */
+    @Nullable private T mSnapshot = null;
+    /** The current data is a stale snapshot. */
+    private boolean mStale = false;
+    /** The delivered stale snapshot, for comparison on the loading thread. */
+    @Nullable private volatile T mStaleData = null;
+    /** The snapshot compared on the loading thread. */
+    @Nullable private volatile T mComparedStale = null;
+    /** The result compared on the loading thread. */
+    @Nullable private volatile T mComparedFresh = null;
+    /** The compared result is the same as the snapshot. */
+    private volatile boolean mSame = false;
+
+    /** The recycled data. */
+    private final ArrayList<T> mRecycled = new ArrayList<>();
+    /** The maximum size of recycling pool, or 0. */
+    private int mRecycling = 0;
+
+    /** The debounce window of content changes, in milliseconds. */
+    private long mDebounce = 0;
+    /** The in-flight content change policy. */
+    private int mPolicy = POLICY_RESTART;
+    /** The content was changed during the load. */
+    private boolean mTrailing = false;
+
+    /** The debounced reload. */
+    private final Runnable mReload = new Runnable() {
+        /** {@inheritDoc} */
+        @Override
+        public final void run() {reload();}
+    };
+
+    /** The trailing reload. */
+    private final Runnable mTrailingReload = new Runnable() {
+        /** {@inheritDoc} */
+        @Override
+        public final void run() {onContentChanged();}
+    };
+
     /**
      * Constructs a new {@link OneShotLoader}.
      *
@@ -69,20 +122,193 @@ public abstract class StableLoader<T> extends BaseLoader<T> {
         super(context, executor, true);
     }
 
+    /**
+     * Enables the stale-while-revalidate mode. On start without data, the last known snapshot
+     * by {@link #getKey()} is delivered immediately, then the fresh result is loaded and
+     * delivered only if differs from the snapshot. So the stored results must stay valid
+     * after {@link #release(Object)}. The stores other than {@link ResultCache} may touch
+     * the disk, so they are read on the loader executor.
+     *
+     * @param snapshots the snapshots storage (memory or persistent), or null for disable
+     */
+    public final void setSnapshots(@Nullable ResultStore snapshots) {
+        mSnapshots = snapshots;
+    }
+
+    /**
+     * Enables recycling of released data. The released data returns to the bounded pool
+     * of this loader, and {@link #obtainRecycled()} gives it back for the next load to fill
+     * in place. The data is recycled only when the client doesn't hold it: after the manager
+     * has dispatched the newer one, or if it was never delivered. The pool is cleared on reset.
+     * Not applies to {@link Closeable} data, and together with snapshots or single-flight,
+     * which share the results.
+     *
+     * @param maxSize the maximum size of the pool, or 0 for disable
+     */
+    public final void setRecycling(int maxSize) {
+        if (maxSize < 0) throw new IllegalArgumentException("Negative size: " + maxSize);
+        synchronized (mRecycled) {
+            mRecycling = maxSize;
+            while (mRecycled.size() > maxSize) mRecycled.remove(mRecycled.size() - 1);
+        }
+    }
+
+    /** @return the recycled data for fill in place, or null */
+    @WorkerThread @Nullable
+    protected final T obtainRecycled() {
+        synchronized (mRecycled) {
+            final int size = mRecycled.size();
+            return size != 0 ? mRecycled.remove(size - 1) : null;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    final void recycle(@NonNull T data) {
+        if (data instanceof Closeable || mSnapshots != null || isSingleFlight()) return;
+        synchronized (mRecycled) {
+            if (mRecycled.size() >= mRecycling) return;
+            // The data released twice stays in the pool once
+            for (int i = 0; i < mRecycled.size(); i++) if (mRecycled.get(i) == data) return;
+            mRecycled.add(data);
+        }
+    }
+
+    /**
+     * Sets the reaction on content changes bursts.
+     *
+     * @param debounce the quiet period before reload, in milliseconds, or 0 for no debounce
+     * @param policy the policy for changes during the load in flight
+     */
+    public final void setContentPolicy(long debounce, @ContentPolicy int policy) {
+        if (debounce < 0) throw new IllegalArgumentException("Negative debounce: " + debounce);
+        mDebounce = debounce; mPolicy = policy;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onContentChanged() {
+        if (mDebounce > 0) {
+            HANDLER.removeCallbacks(mReload);
+            HANDLER.postDelayed(mReload, mDebounce);
+        } else {
+            reload();
+        }
+    }
+
+    /** Reloads by content change, with respect of the load in flight. */
+    private void reload() {
+        if (mPolicy == POLICY_CONFLATE && isInFlight()) {
+            mTrailing = true;
+        } else {
+            onReload();
+            super.onContentChanged();
+        }
+    }
+
+    /** Calls when the content change is taken, after the debounce and conflation. */
+    void onReload() {}
+
+    /** {@inheritDoc} */
+    @Override
+    final void onSettled() {
+        if (mTrailing) {
+            mTrailing = false;
+            HANDLER.post(mTrailingReload);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void onReset() {
+        super.onReset();
+        HANDLER.removeCallbacks(mReload);
+        HANDLER.removeCallbacks(mTrailingReload);
+        mTrailing = false;
+        synchronized (mRecycled) {mRecycled.clear();}
+    }
+
     /** {@inheritDoc} */
     @Override
     protected void onDelivered(@Nullable T data, boolean isStarted) {
-        /*if (!isStarted && data != null) {
-            data.clearDiffs();
-        }*/
+        mStale = data != null && data == mSnapshot;
+        mStaleData = mStale ? data : null;
+        mSnapshot = null;
+        final Object key = !mStale && data != null && mSnapshots != null ? getKey() : null;
+        if (key != null) {
+            mSnapshots.put(key, data);
+        }
     }
 
+    /** @return true if the current data is a stale snapshot */
+    final boolean isStale() {return mStale;}
+
     /** {@inheritDoc} */
     @Override
     protected final boolean needDelivery(@Nullable T data) {
         return data != null;
     }
 
+    /** {@inheritDoc} */
+    @Nullable @Override @SuppressWarnings("unchecked")
+    protected T peekResult() {
+        final ResultStore snapshots = mSnapshots;
+        final Object key = snapshots != null ? getKey() : null;
+        if (key == null) return mSnapshot = null;
+        if (snapshots instanceof ResultCache) return mSnapshot = (T) snapshots.get(key);
+        final Executor executor = getExecutor();
+        (executor != null ? executor : AsyncTask.THREAD_POOL_EXECUTOR).execute(new Runnable() {
+            /** {@inheritDoc} */
+            @Override
+            public final void run() {
+                final T result = (T) snapshots.get(key);
+                if (result != null) HANDLER.post(new Runnable() {
+                    /** {@inheritDoc} */
+                    @Override
+                    public final void run() {
+                        mSnapshot = result;
+                        offerPeeked(result);
+                    }
+                });
+            }
+        });
+        return mSnapshot = null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean isChanged(@NonNull T oldData, @Nullable T data) {
+        if (!mStale) return true;
+        mStale = false; mStaleData = null;
+        final T fresh = mComparedFresh, stale = mComparedStale;
+        final boolean same = mSame;
+        mComparedFresh = mComparedStale = null;
+        // Not compared with this snapshot on the loading thread, so delivered
+        return data == null || fresh != data || stale != oldData || !same;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    final void onLoaded(@Nullable T result) {
+        final T stale = mStaleData;
+        if (stale == null || result == null || result == stale) return;
+        mSame = isSame(stale, result);
+        mComparedStale = stale;
+        mComparedFresh = result;
+    }
+
+    /**
+     * Compares the stale snapshot with the fresh result, on the loading thread.
+     *
+     * @param stale the stale snapshot
+     * @param fresh the fresh result
+     *
+     * @return true if results are equal, so the fresh one is not delivered
+     */
+    protected boolean isSame(@NonNull T stale, @NonNull T fresh) {
+        return stale.equals(fresh);
+    }
+
     /** {@inheritDoc} */
     @Override
     protected boolean needLoad(@Nullable T data) {
@@ -92,4 +318,9 @@ public abstract class StableLoader<T> extends BaseLoader<T> {
     /** {@inheritDoc} */
     @Override
     protected void release(@NonNull T data) {}
+
+    /** The content change policy definition. */
+    @Retention(RetentionPolicy.SOURCE)
+    @IntDef({POLICY_RESTART, POLICY_CONFLATE})
+    public @interface ContentPolicy {}
 }
@@ -0,0 +1,99 @@
+/*
+ * 	BundleCodecTest.java
+ * 	app
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package ru.nikitenkogleb.android.loaders;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The plain-JVM round-trips of {@link BundleCodec} framing and primitives.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+public final class BundleCodecTest {
+
+    /** The plain frame round-trip. */
+    @Test
+    public final void framePlain() {
+        final byte[] plain = random(58);
+        final byte[] framed = BundleCodec.frame(plain, Integer.MAX_VALUE);
+        assertArrayEquals(plain, BundleCodec.unframe(framed));
+    }
+
+    /** The deflated frame round-trip. */
+    @Test
+    public final void frameDeflated() {
+        final byte[] plain = new byte[4003];
+        Arrays.fill(plain, (byte) 'a');
+        final byte[] framed = BundleCodec.frame(plain, 1024);
+        assertTrue(framed.length < plain.length);
+        assertArrayEquals(plain, BundleCodec.unframe(framed));
+    }
+
+    /** Incompressible data above the threshold stays plain. */
+    @Test
+    public final void frameIncompressible() {
+        final byte[] plain = random(4096);
+        assertArrayEquals(plain, BundleCodec.unframe(BundleCodec.frame(plain, 1024)));
+    }
+
+    /** The primitives round-trip. */
+    @Test
+    public final void primitives() {
+        final int[] values = {0, 1, 127, 128, 16383, 16384, Integer.MAX_VALUE, -1, Integer.MIN_VALUE};
+        final BundleCodec writer = new BundleCodec();
+        for (final int value : values) writer.writeVarint(value);
+        writer.writeString("ключ");
+        writer.writeBytes(new byte[] {1, 2, 3});
+
+        final byte[] data = writer.toByteArray();
+        final BundleCodec reader = new BundleCodec(data, 0, data.length);
+        for (final int value : values) assertEquals(value, reader.readVarint());
+        assertEquals("ключ", reader.readString());
+        assertArrayEquals(new byte[] {1, 2, 3}, reader.readBytes());
+        assertTrue(reader.isDrained());
+    }
+
+    /**
+     * @param length the data length
+     * @return the random data
+     */
+    private static byte[] random(int length) {
+        final byte[] result = new byte[length];
+        new Random(length).nextBytes(result);
+        return result;
+    }
+}
@@ -0,0 +1,431 @@
+/*
+ * 	LoaderChurnTest.java
+ * 	app
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package ru.nikitenkogleb.android.loaders;
+
+import android.content.Context;
+import android.content.res.Configuration;
+import android.database.MatrixCursor;
+import android.os.Bundle;
+import android.os.CancellationSignal;
+import android.os.Parcel;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.v4.app.FragmentActivity;
+import android.support.v4.content.Loader;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.android.controller.ActivityController;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The churn of {@link LoaderManager} with {@link StableLoader}s and {@link OneShotLoader}s
+ * through rotations, process deaths and stop/start cycles, with loads in flight.
+ * Reports the throughput, leaked cursors, duplicate deliveries and wasted background time.
+ * <p>
+ * The main looper is paused, and the background loads are held until the harness lets
+ * them finish between lifecycle steps, as the main thread of device dispatches them
+ * between the lifecycle messages. The loads cancelled meanwhile are the wasted time.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE, sdk = 23)
+public final class LoaderChurnTest {
+
+    /** The count of lifecycle cycles. */
+    private static final int CYCLES = 2000;
+    /** The count of loader ids, the first half is stable. */
+    private static final int LOADERS = 8;
+    /** The count of background threads. */
+    private static final int WORKERS = 3;
+    /** The seed of cycles. */
+    private static final long SEED = 18102026L;
+
+    /** The "id" - args key. */
+    private static final String ARG_ID = "id";
+
+    /** The loads held in background. */
+    private static final ConcurrentLinkedQueue<Ticket> GATE = new ConcurrentLinkedQueue<>();
+    /** The ticket of current load. */
+    private static final ThreadLocal<Ticket> TICKET = new ThreadLocal<>();
+
+    /** The loaders executor. */
+    static Executor sExecutor = null;
+    /** The count of delivered results. */
+    static int sDelivered = 0;
+    /** The count of results delivered twice to the same client. */
+    static int sDuplicated = 0;
+
+    /** The background threads. */
+    private ExecutorService mWorkers = null;
+    /** The metrics. */
+    private HistogramMetrics mMetrics = null;
+    /** The host controller. */
+    private ActivityController<Host> mController = null;
+
+    /** Installs the executor and metrics. */
+    @Before
+    public final void setUp() {
+        final ExecutorService workers = mWorkers = Executors.newFixedThreadPool(WORKERS);
+        sExecutor = new Executor() {
+            /** {@inheritDoc} */
+            @Override
+            public final void execute(@NonNull final Runnable command) {
+                workers.execute(new Runnable() {
+                    /** {@inheritDoc} */
+                    @Override
+                    public final void run() {
+                        final Ticket ticket = new Ticket();
+                        TICKET.set(ticket);
+                        try {
+                            command.run();
+                        } finally {
+                            TICKET.remove();
+                            ticket.mDone = true;
+                        }
+                    }
+                });
+            }
+        };
+        sDelivered = sDuplicated = 0;
+        TrackedCursor.OPENED.set(0);
+        TrackedCursor.CLOSED.set(0);
+        GATE.clear();
+        LoaderMetrics.install(mMetrics = new HistogramMetrics());
+        ShadowLooper.pauseMainLooper();
+    }
+
+    /** Uninstalls the executor and metrics. */
+    @After
+    public final void tearDown() {
+        LoaderMetrics.install(null);
+        // The loads still held after a failure
+        for (Ticket ticket; (ticket = GATE.poll()) != null;) ticket.mGo = true;
+        mWorkers.shutdownNow();
+        sExecutor = null;
+    }
+
+    /** The churn with loads in flight. */
+    @Test
+    public final void churn() throws InterruptedException {
+        final Random random = new Random(SEED);
+        mController = Robolectric.buildActivity(Host.class).setup();
+
+        final long start = System.nanoTime();
+        for (int cycle = 0; cycle < CYCLES; cycle++) {
+            for (int i = random.nextInt(3); i > 0; i--) load(random.nextInt(LOADERS));
+            settle(random);
+            switch (random.nextInt(3)) {
+                case 0: rotate(); break;
+                case 1: kill(); break;
+                default: restart(random); break;
+            }
+            settle(random);
+        }
+        final long elapsed = System.nanoTime() - start;
+
+        mController.pause().stop().destroy();
+        idle();
+        mWorkers.shutdown();
+        while (!mWorkers.awaitTermination(10, TimeUnit.MILLISECONDS)) finish(Integer.MAX_VALUE);
+        idle();
+
+        long wasted = 0;
+        for (final HistogramMetrics.Entry entry : mMetrics.getEntries().values())
+            wasted += entry.getWastedNanos();
+        final int leaked = TrackedCursor.OPENED.get() - TrackedCursor.CLOSED.get();
+        System.out.printf(Locale.US, "%d cycles: %.0f cycles/s, %.0f deliveries/s, " +
+                "%d duplicated, %d cursors leaked, %.1f ms wasted%n", CYCLES,
+                CYCLES * 1e9 / elapsed, sDelivered * 1e9 / elapsed,
+                sDuplicated, leaked, wasted / 1e6);
+
+        assertTrue(sDelivered > 0);
+        assertEquals(0, sDuplicated);
+        assertEquals(0, leaked);
+    }
+
+    /** @param id the loader id for start or restart */
+    private void load(int id) {
+        final Bundle args = new Bundle();
+        args.putInt(ARG_ID, id);
+        mController.get().mManager.startLoad(id, args, id < LOADERS / 2);
+    }
+
+    /** Rotates the host, the loaders are retained. */
+    private void rotate() {
+        final Configuration config =
+                new Configuration(mController.get().getResources().getConfiguration());
+        config.orientation = config.orientation == Configuration.ORIENTATION_LANDSCAPE ?
+                Configuration.ORIENTATION_PORTRAIT : Configuration.ORIENTATION_LANDSCAPE;
+        mController.configurationChange(config);
+    }
+
+    /** Kills the host process and restores it from the parceled state. */
+    private void kill() {
+        final Bundle state = new Bundle();
+        mController.pause().saveInstanceState(state).stop().destroy();
+        // Leftovers of the dead process
+        idle();
+        final Parcel parcel = Parcel.obtain();
+        try {
+            parcel.writeBundle(state);
+            parcel.setDataPosition(0);
+            mController = Robolectric.buildActivity(Host.class)
+                    .setup(parcel.readBundle(Host.class.getClassLoader()));
+        } finally {
+            parcel.recycle();
+        }
+    }
+
+    /**
+     * Stops and starts the host.
+     *
+     * @param random the random
+     */
+    private void restart(@NonNull Random random) {
+        mController.pause(); settle(random);
+        mController.stop(); settle(random);
+        mController.restart(); settle(random);
+        mController.resume();
+    }
+
+    /**
+     * Lets some loads finish and dispatches the main looper,
+     * as the main thread does before the next lifecycle message.
+     *
+     * @param random the random
+     */
+    private static void settle(@NonNull Random random) {
+        finish(random.nextInt(3));
+        idle();
+    }
+
+    /** Dispatches the main looper. */
+    private static void idle() {ShadowLooper.runUiThreadTasks();}
+
+    /**
+     * Lets the held loads finish, and waits them have posted the results.
+     *
+     * @param count the maximum count of loads
+     */
+    private static void finish(int count) {
+        for (int i = 0; i < count; i++) {
+            final Ticket ticket = GATE.poll();
+            if (ticket == null) return;
+            ticket.mGo = true;
+            while (!ticket.mDone) Thread.yield();
+        }
+    }
+
+    /**
+     * Holds the load until the harness lets it finish, or it is cancelled.
+     *
+     * @param signal the cancellation signal
+     */
+    static void hold(@NonNull CancellationSignal signal) {
+        final Ticket ticket = TICKET.get();
+        GATE.add(ticket);
+        while (!ticket.mGo) {
+            signal.throwIfCanceled();
+            Thread.yield();
+        }
+    }
+
+    /** The background load run. */
+    private static final class Ticket {
+        /** The load may finish. */
+        volatile boolean mGo = false;
+        /** The load has posted the result. */
+        volatile boolean mDone = false;
+    }
+
+    /** The counted cursor. */
+    static final class TrackedCursor extends MatrixCursor {
+
+        /** The count of created cursors. */
+        static final AtomicInteger OPENED = new AtomicInteger();
+        /** The count of closed cursors. */
+        static final AtomicInteger CLOSED = new AtomicInteger();
+
+        /** @param id the loader id */
+        TrackedCursor(int id) {
+            super(new String[] {ARG_ID});
+            addRow(new Object[] {id});
+            OPENED.incrementAndGet();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public final void close() {
+            if (!isClosed()) CLOSED.incrementAndGet();
+            super.close();
+        }
+    }
+
+    /** The stable cursor loader. */
+    static final class Cursors extends StableCursorLoader {
+
+        /** The loader id. */
+        private final int mId;
+
+        /**
+         * @param context the context
+         * @param id the loader id
+         */
+        Cursors(@NonNull Context context, int id) {
+            super(context, sExecutor);
+            mId = id;
+        }
+
+        /** {@inheritDoc} */
+        @Nullable @Override
+        protected final Object loadInBackground(@NonNull CancellationSignal signal) {
+            hold(signal);
+            return new TrackedCursor(mId);
+        }
+    }
+
+    /** The one-shot loader. */
+    static final class Tokens extends OneShotLoader<Object> {
+
+        /** @param context the context */
+        Tokens(@NonNull Context context) {
+            super(context, sExecutor);
+        }
+
+        /** {@inheritDoc} */
+        @Nullable @Override
+        protected final Object loadInBackground(@NonNull CancellationSignal signal) {
+            hold(signal);
+            return new Object();
+        }
+    }
+
+    /** The host of loader manager, as the application activity. */
+    public static final class Host extends FragmentActivity {
+
+        /** The loader manager. */
+        Client mManager = null;
+
+        /** {@inheritDoc} */
+        @Override
+        protected final void onCreate(@Nullable Bundle savedInstanceState) {
+            super.onCreate(savedInstanceState);
+            mManager = new Client(getApplicationContext(),
+                    getSupportLoaderManager(), savedInstanceState);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected final void onSaveInstanceState(Bundle outState) {
+            mManager.backup(outState);
+            super.onSaveInstanceState(outState);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected final void onStart() {
+            mManager.start();
+            super.onStart();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected final void onStop() {
+            super.onStop();
+            mManager.stop();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected final void onDestroy() {
+            mManager.close();
+            mManager = null;
+            super.onDestroy();
+        }
+    }
+
+    /** The client counting deliveries. */
+    static final class Client extends LoaderManager {
+
+        /** The application context. */
+        private final Context mContext;
+        /** The results delivered to this client. */
+        private final Set<Object> mDelivered =
+                Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+
+        /**
+         * @param context the application context
+         * @param loaderManager the frameworks loader manager
+         * @param state the saved state
+         */
+        Client(@NonNull Context context,
+                @NonNull android.support.v4.app.LoaderManager loaderManager,
+                @Nullable Bundle state) {
+            super(loaderManager, state);
+            mContext = context;
+        }
+
+        /** {@inheritDoc} */
+        @Nullable @Override
+        protected final Loader<Object> onCreateLoader(int id, @NonNull Bundle args) {
+            return id < LOADERS / 2 ? new Cursors(mContext, id) : new Tokens(mContext);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected final void onLoadFinished(int id, @Nullable Object data) {
+            if (data == null) return;
+            sDelivered++;
+            if (!mDelivered.add(data)) sDuplicated++;
+        }
+    }
+}
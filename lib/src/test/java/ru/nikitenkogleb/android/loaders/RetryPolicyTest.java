@@ -0,0 +1,68 @@
+/*
+ * 	RetryPolicyTest.java
+ * 	app
+ *
+ *  	The MIT License (MIT)
+ *
+ *  	Copyright (c) 2017, Gleb Nikitenko
+ *
+ * 	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  	of this software and associated documentation files (the "Software"), to deal
+ *  	in the Software without restriction, including without limitation the rights
+ *  	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  	copies of the Software, and to permit persons to whom the Software is
+ *  	furnished to do so, subject to the following conditions:
+ *
+ * 	The above copyright notice and this permission notice shall be included in all
+ * 	copies or substantial portions of the Software.
+ *
+ *  	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  	SOFTWARE.
+ *
+ */
+
+package ru.nikitenkogleb.android.loaders;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The plain-JVM bounds of {@link RetryPolicy} delays.
+ *
+ * @author Nikitenko Gleb
+ * @since 1.0, 18/10/2026
+ */
+public final class RetryPolicyTest {
+
+    /** The load failure. */
+    private static final Exception ERROR = new Exception();
+
+    /** The delays stay within the doubled caps. */
+    @Test
+    public final void bounds() {
+        final RetryPolicy policy = new RetryPolicy(8, 100, 1000);
+        for (int attempt = 0; attempt < 8; attempt++) {
+            final long delay = policy.getDelay(attempt, ERROR);
+            assertTrue(delay >= 0 && delay <= Math.min(100L << attempt, 1000));
+        }
+        assertEquals(-1, policy.getDelay(8, ERROR));
+    }
+
+    /** The large attempts are capped by the maximum delay, not overflowed. */
+    @Test
+    public final void overflow() {
+        final RetryPolicy policy = new RetryPolicy(100, 1, Long.MAX_VALUE);
+        for (int attempt = 60; attempt < 100; attempt++)
+            assertTrue(policy.getDelay(attempt, ERROR) >= 0);
+        final RetryPolicy small = new RetryPolicy(100, 100, 1000);
+        assertTrue(small.getDelay(63, ERROR) <= 1000);
+        assertTrue(small.getDelay(99, ERROR) <= 1000);
+    }
+}